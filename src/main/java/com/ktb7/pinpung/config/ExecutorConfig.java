@@ -0,0 +1,75 @@
+package com.ktb7.pinpung.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 요청 처리 중 병렬로 돌리는 작업용 스레드 풀.
+ * 툴체인이 Java 17 이라 가상 스레드 대신 크기 제한이 있는 플랫폼 스레드 풀을 사용한다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    // 검색 결과 보강 단계(팔로워, 장소 정보, 장소 집계) 병렬 조회
+    // 스레드마다 DB 커넥션을 하나씩 쓰므로 pool-size 는 Hikari maximum-pool-size 보다 작게 유지
+    // 큐가 차면 호출 스레드에서 실행해 요청이 밀려도 작업을 버리지 않음
+    @Bean(name = "searchEnrichmentExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor searchEnrichmentExecutor(
+            @Value("${search.enrichment.pool-size:8}") int poolSize,
+            @Value("${search.enrichment.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("search-enrich-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // AI 태그 생성 요청. TagGenerationDispatcher 가 빈 자리만큼만 넣고, 큐는 스레드 반납 직전 틈을 메우는 용도
+    @Bean(name = "tagGenerationExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor tagGenerationExecutor(
+            @Value("${tag.generation.max-concurrency:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("tag-gen-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize);
+        executor.initialize();
+        return executor;
+    }
+
+    // 펑 이미지 두 장 동시 업로드. 큐가 차면 호출 스레드에서 업로드
+    @Bean(name = "s3UploadExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor s3UploadExecutor(
+            @Value("${s3.upload.pool-size:8}") int poolSize,
+            @Value("${s3.upload.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 이미지 축소본 생성. 업로드 응답과 무관한 작업이라 큐가 차면 버리고 ImageDerivativeReconciler 가 나중에 다시 등록
+    @Bean(name = "imageDerivativeExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor imageDerivativeExecutor(
+            @Value("${image.derivative.pool-size:2}") int poolSize,
+            @Value("${image.derivative.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,14 +1,21 @@
 package com.ktb7.pinpung.config;
 
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.Contact;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class SwaggerConfig {
 
+    static {
+        // 필터가 채워주는 userId 는 API 문서의 요청 파라미터에서 제외
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(AuthenticatedUser.class);
+    }
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
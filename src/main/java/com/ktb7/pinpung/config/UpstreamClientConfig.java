@@ -0,0 +1,88 @@
+package com.ktb7.pinpung.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 업스트림별 WebClient. 호출마다 WebClient 를 새로 만들지 않고 이름 붙은 커넥션 풀을 재사용한다.
+ * 풀 지표는 reactor.netty.connection.provider.* (name 태그 = 풀 이름) 로 actuator metrics 에 노출된다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(UpstreamProperties.class)
+public class UpstreamClientConfig implements DisposableBean {
+
+    private final UpstreamProperties upstreamProperties;
+    private final WebClient.Builder webClientBuilder;
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    // 카카오 로컬 검색 (dapi.kakao.com)
+    @Bean
+    public WebClient kakaoLocalWebClient() {
+        return buildWebClient("kakao-local", upstreamProperties.getKakaoLocal());
+    }
+
+    // 카카오 토큰 검증 / 갱신 (kapi.kakao.com, kauth.kakao.com)
+    @Bean
+    public WebClient kakaoAuthWebClient() {
+        return buildWebClient("kakao-auth", upstreamProperties.getKakaoAuth());
+    }
+
+    // OpenAI chat completions
+    @Bean
+    public WebClient openAiWebClient() {
+        return buildWebClient("open-ai", upstreamProperties.getOpenAi());
+    }
+
+    // FastAPI AI 서버
+    @Bean
+    public WebClient aiServerWebClient() {
+        return buildWebClient("ai-server", upstreamProperties.getAiServer());
+    }
+
+    private WebClient buildWebClient(String name, UpstreamProperties.Pool pool) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(pool.getReadTimeout());
+
+        WebClient.Builder builder = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+        if (pool.getBaseUrl() != null && !pool.getBaseUrl().isBlank()) {
+            builder.baseUrl(pool.getBaseUrl());
+        }
+
+        log.info("Upstream WebClient [{}] maxConnections={}, connectTimeout={}, readTimeout={}",
+                name, pool.getMaxConnections(), pool.getConnectTimeout(), pool.getReadTimeout());
+        return builder.build();
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ktb7.pinpung.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(업스트림)별 커넥션 풀 / 타임아웃 설정. application.yml 의 upstream.* 에 매핑된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "upstream")
+public class UpstreamProperties {
+
+    private Pool kakaoLocal = new Pool();
+    private Pool kakaoAuth = new Pool();
+    private Pool openAi = new Pool();
+    private Pool aiServer = new Pool();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private String baseUrl;
+        private int maxConnections = 50;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    }
+}
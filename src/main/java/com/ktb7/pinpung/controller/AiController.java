@@ -5,7 +5,7 @@ import com.ktb7.pinpung.dto.AI.RecommendTagsResponseDto;
 import com.ktb7.pinpung.dto.AI.TrendingTagsAIResponseDto;
 import com.ktb7.pinpung.dto.AI.TrendingTagsResponseDto;
 import com.ktb7.pinpung.dto.Place.SimplePlaceDto;
-import com.ktb7.pinpung.oauth2.service.TokenService;
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import com.ktb7.pinpung.service.AiService;
 import com.ktb7.pinpung.service.PlaceService;
 import com.ktb7.pinpung.util.ValidationUtils;
@@ -28,7 +28,6 @@ public class AiController {
 
     private final AiService aiService;
     private final PlaceService placeService;
-    private final TokenService tokenService;
 
     @GetMapping("/recommend")
     @Operation(
@@ -44,7 +43,7 @@ public class AiController {
             }
     )
     public ResponseEntity<RecommendTagsResponseDto> recommend(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticatedUser Long userId,
             @RequestParam String swLng,
             @RequestParam String swLat,
             @RequestParam String neLng,
@@ -52,15 +51,12 @@ public class AiController {
             @RequestParam String x,
             @RequestParam String y
     ) {
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validateCoordinates(x, y);
         ValidationUtils.validateRect(swLng, swLat, neLng, neLat);
 
-        List<Long> placeIdList = placeService.categorySearch("카페", swLng, swLat, neLng, neLat, x, y, "distance");
+        List<Long> placeIdList = placeService.cachedCategorySearch("카페", swLng, swLat, neLng, neLat, x, y, "distance");
         RecommendTagsAIResponseDto recommendTagsAIResponse = aiService.recommend(userId, placeIdList);
 
         List<SimplePlaceDto> places = aiService.changeFormat2Recommend(recommendTagsAIResponse);
@@ -82,7 +78,7 @@ public class AiController {
             }
     )
     public ResponseEntity<TrendingTagsResponseDto> trending(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticatedUser Long userId,
             @RequestParam String swLng,
             @RequestParam String swLat,
             @RequestParam String neLng,
@@ -90,15 +86,12 @@ public class AiController {
             @RequestParam String x,
             @RequestParam String y
     ) {
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validateCoordinates(x, y);
         ValidationUtils.validateRect(swLng, swLat, neLng, neLat);
 
-        List<Long> placeIdList = placeService.categorySearch("카페", swLng, swLat, neLng, neLat, x, y, "distance");
+        List<Long> placeIdList = placeService.cachedCategorySearch("카페", swLng, swLat, neLng, neLat, x, y, "distance");
         TrendingTagsAIResponseDto trendingTagsAIResponse = aiService.getTrending(userId, placeIdList);
 
         TrendingTagsResponseDto response = aiService.changeFormat2Trending(userId, trendingTagsAIResponse);
@@ -4,7 +4,7 @@ import com.ktb7.pinpung.dto.Follow.FollowRequestDto;
 import com.ktb7.pinpung.dto.Follow.FollowResponseDto;
 import com.ktb7.pinpung.dto.Follow.UnfollowRequestDto;
 import com.ktb7.pinpung.dto.Follow.UnfollowResponseDto;
-import com.ktb7.pinpung.oauth2.service.TokenService;
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import com.ktb7.pinpung.service.FollowService;
 import com.ktb7.pinpung.util.ValidationUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,7 +23,6 @@ import org.springframework.web.bind.annotation.*;
 public class FollowController {
 
     private final FollowService followService;
-    private final TokenService tokenService;
 
     @PostMapping
     @Operation(
@@ -31,12 +30,9 @@ public class FollowController {
             description = "특정 사용자를 팔로우합니다.",
             parameters = @Parameter(name = "followRequestDto", description = "팔로우 요청 정보 (userId, wantsToFollowId)", required = true)
     )
-    public ResponseEntity<FollowResponseDto> followUser(@RequestHeader("Authorization") String authorizationHeader, @RequestBody FollowRequestDto followRequestDto) {
+    public ResponseEntity<FollowResponseDto> followUser(@AuthenticatedUser Long userId, @RequestBody FollowRequestDto followRequestDto) {
         log.info("Received request to /follows/add with followRequestDto: {}", followRequestDto.getWantsToFollowId());
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증: id 검증
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validateUserId(followRequestDto.getWantsToFollowId());
@@ -51,12 +47,9 @@ public class FollowController {
             description = "특정 사용자를 언팔로우합니다.",
             parameters = @Parameter(name = "unfollowRequestDto", description = "언팔로우 요청 정보 (userId, wantsToUnfollowId)", required = true)
     )
-    public ResponseEntity<UnfollowResponseDto> unfollowUser(@RequestHeader("Authorization") String authorizationHeader, @RequestBody UnfollowRequestDto unfollowRequestDto) {
+    public ResponseEntity<UnfollowResponseDto> unfollowUser(@AuthenticatedUser Long userId, @RequestBody UnfollowRequestDto unfollowRequestDto) {
         log.info("Received request to /follows/add with: {}", unfollowRequestDto.getWantsToUnfollowId());
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증: id 검증
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validateUserId(unfollowRequestDto.getWantsToUnfollowId());
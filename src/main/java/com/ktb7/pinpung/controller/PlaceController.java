@@ -5,7 +5,7 @@ import com.ktb7.pinpung.dto.Place.PlaceNearbyDto;
 import com.ktb7.pinpung.dto.Place.PlaceNearbyResponseDto;
 import com.ktb7.pinpung.exception.common.CustomException;
 import com.ktb7.pinpung.exception.common.ErrorCode;
-import com.ktb7.pinpung.oauth2.service.TokenService;
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import com.ktb7.pinpung.service.PlaceService;
 import com.ktb7.pinpung.util.ValidationUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,7 +25,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PlaceController {
     private final PlaceService placeService;
-    private final TokenService tokenService;
 
     @GetMapping("/nearby")
     @Operation(
@@ -33,7 +32,7 @@ public class PlaceController {
             description = "주어진 좌표(SW, NE) 범위를 기준으로 주변 장소를 검색합니다."
     )
     public ResponseEntity<PlaceNearbyResponseDto> getPlacesWithRepresentativeImage(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticatedUser Long userId,
             @RequestParam String swLng,
             @RequestParam String swLat,
             @RequestParam String neLng,
@@ -41,13 +40,10 @@ public class PlaceController {
 
         log.info("Received request to /nearby with SW({},{}) and NE({},{})", swLng, swLat, neLng, neLat);
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증
         ValidationUtils.validateRect(swLng, swLat, neLng, neLat);
 
-        List<Long> placeIds = placeService.categorySearch("카페", swLng, swLat, neLng, neLat, null, null, "accuracy");
+        List<Long> placeIds = placeService.nearbyCafeSearch(swLng, swLat, neLng, neLat);
         List<PlaceNearbyDto> places = placeService.getPlacesWithRepresentativeImage(userId, placeIds);
 
         PlaceNearbyResponseDto response = new PlaceNearbyResponseDto(places.size(), places);
@@ -3,7 +3,7 @@ package com.ktb7.pinpung.controller;
 import com.ktb7.pinpung.dto.Pung.PungsResponseDto;
 import com.ktb7.pinpung.dto.Pung.UploadPungRequestDto;
 import com.ktb7.pinpung.dto.Review.MessageResponseDto;
-import com.ktb7.pinpung.oauth2.service.TokenService;
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import com.ktb7.pinpung.service.PungService;
 import com.ktb7.pinpung.util.ValidationUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,7 +26,6 @@ import org.springframework.web.bind.annotation.*;
 public class PungController {
 
     private final PungService pungService;
-    private final TokenService tokenService;
 
     @GetMapping("/byPlace/{placeId}")
     @Operation(
@@ -60,12 +59,9 @@ public class PungController {
                     @Parameter(name = "uploadPungRequest", description = "펑 업로드 요청 데이터 (userId, placeId, text, 이미지 파일 두가지)", required = true)
             }
     )
-    public ResponseEntity<MessageResponseDto> uploadPungs(@RequestHeader("Authorization") String authorizationHeader, @ModelAttribute UploadPungRequestDto uploadPungRequest) {
+    public ResponseEntity<MessageResponseDto> uploadPungs(@AuthenticatedUser Long userId, @ModelAttribute UploadPungRequestDto uploadPungRequest) {
         log.info("uploadPungs: {} {}", uploadPungRequest.getPlaceId(), uploadPungRequest.getText());
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증
         ValidationUtils.validateUserAndPlaceId(userId, uploadPungRequest.getPlaceId());
         ValidationUtils.validateFile(uploadPungRequest.getImageWithText(), "imageWithText");
@@ -85,15 +81,12 @@ public class PungController {
             }
     )
     public ResponseEntity<PungsResponseDto> getPungsByUser(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticatedUser Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "5") int size
     ) {
         log.info("getPungsByUser");
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validatePagination(page, size);
@@ -4,7 +4,7 @@ import com.ktb7.pinpung.dto.Review.DeleteReviewRequestDto;
 import com.ktb7.pinpung.dto.Review.MessageResponseDto;
 import com.ktb7.pinpung.dto.Review.ModifyReviewRequestDto;
 import com.ktb7.pinpung.dto.Review.UploadReviewRequestDto;
-import com.ktb7.pinpung.oauth2.service.TokenService;
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import com.ktb7.pinpung.service.ReviewService;
 import com.ktb7.pinpung.util.ValidationUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,7 +23,6 @@ import org.springframework.web.bind.annotation.*;
 public class ReviewController {
 
     private final ReviewService reviewService;
-    private final TokenService tokenService;
 
     @PostMapping
     @Operation(
@@ -33,12 +32,9 @@ public class ReviewController {
                     @Parameter(name = "uploadReviewRequest", description = "리뷰 업로드 요청 데이터 (userId, placeId, text, 이미지)", required = true)
             }
     )
-    public ResponseEntity<MessageResponseDto> uploadReview(@RequestHeader("Authorization") String authorizationHeader, @ModelAttribute UploadReviewRequestDto uploadReviewRequest) {
+    public ResponseEntity<MessageResponseDto> uploadReview(@AuthenticatedUser Long userId, @ModelAttribute UploadReviewRequestDto uploadReviewRequest) {
         log.info("uploadReview: {} {}", uploadReviewRequest.getPlaceId(), uploadReviewRequest.getText());
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         ValidationUtils.validateUserAndPlaceId(userId, uploadReviewRequest.getPlaceId());
 
         MessageResponseDto response = reviewService.uploadReview(userId, uploadReviewRequest);
@@ -53,12 +49,9 @@ public class ReviewController {
                     @Parameter(name = "modifyReviewRequest", description = "리뷰 수정 요청 데이터 (userId, placeId, text, 이미지)", required = true)
             }
     )
-    public ResponseEntity<MessageResponseDto> modifyReview(@RequestHeader("Authorization") String authorizationHeader, @ModelAttribute ModifyReviewRequestDto modifyReviewRequest) {
+    public ResponseEntity<MessageResponseDto> modifyReview(@AuthenticatedUser Long userId, @ModelAttribute ModifyReviewRequestDto modifyReviewRequest) {
         log.info("modifyReview: {} {}", modifyReviewRequest.getPlaceId(), modifyReviewRequest.getText());
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         ValidationUtils.validateUserAndPlaceId(userId, modifyReviewRequest.getPlaceId());
 
         MessageResponseDto response = reviewService.modifyReview(userId, modifyReviewRequest);
@@ -73,12 +66,9 @@ public class ReviewController {
                     @Parameter(name = "deleteReviewRequest", description = "리뷰 삭제 요청 데이터 (userId, placeId, reviewId)", required = true)
             }
     )
-    public ResponseEntity<MessageResponseDto> deleteReview(@RequestHeader("Authorization") String authorizationHeader, @ModelAttribute DeleteReviewRequestDto deleteReviewRequest) {
+    public ResponseEntity<MessageResponseDto> deleteReview(@AuthenticatedUser Long userId, @ModelAttribute DeleteReviewRequestDto deleteReviewRequest) {
         log.info("deleteReview: {} {}", deleteReviewRequest.getPlaceId(), deleteReviewRequest.getReviewId());
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         ValidationUtils.validateUserAndPlaceId(userId, deleteReviewRequest.getPlaceId());
 
         MessageResponseDto response = reviewService.deleteReview(userId, deleteReviewRequest);
@@ -3,9 +3,9 @@ package com.ktb7.pinpung.controller;
 import com.ktb7.pinpung.dto.Place.PlaceNearbyDto;
 import com.ktb7.pinpung.dto.Place.PlaceNearbyResponseDto;
 import com.ktb7.pinpung.dto.Search.SearchResponseDto;
-import com.ktb7.pinpung.dto.Search.SearchTagReviewDto;
-import com.ktb7.pinpung.oauth2.service.TokenService;
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import com.ktb7.pinpung.service.PlaceService;
+import com.ktb7.pinpung.service.SearchEnrichmentPipeline;
 import com.ktb7.pinpung.service.SearchService;
 import com.ktb7.pinpung.util.ValidationUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,7 +27,7 @@ public class SearchController {
 
     private final SearchService searchService;
     private final PlaceService placeService;
-    private final TokenService tokenService;
+    private final SearchEnrichmentPipeline searchEnrichmentPipeline;
 
     @GetMapping("/map")
     @Operation(
@@ -42,7 +42,7 @@ public class SearchController {
             }
     )
     public ResponseEntity<PlaceNearbyResponseDto> searchInMap(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticatedUser Long userId,
             @RequestParam String keyword,
             @RequestParam String swLng,
             @RequestParam String swLat,
@@ -51,15 +51,12 @@ public class SearchController {
     ) {
         log.info("Received request to /search/map with keyword {}, SW({},{}) and NE({},{})", keyword, swLng, swLat, neLng, neLat);
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validateRect(swLng, swLat, neLng, neLat);
         ValidationUtils.validateKeyword(keyword);
 
-        Boolean haveLocation = searchService.useGpt(keyword);
+        Boolean haveLocation = searchService.hasLocation(keyword);
         List<Long> placeIdListForMap;
 
         if (haveLocation) {
@@ -87,7 +84,7 @@ public class SearchController {
             }
     )
     public ResponseEntity<SearchResponseDto> searchWithAccuracy(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticatedUser Long userId,
             @RequestParam String keyword,
             @RequestParam String swLng,
             @RequestParam String swLat,
@@ -96,15 +93,12 @@ public class SearchController {
     ) {
         log.info("Received request to /search/accuracy with keyword {}, SW({},{}) and NE({},{})", keyword, swLng, swLat, neLng, neLat);
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validateRect(swLng, swLat, neLng, neLat);
         ValidationUtils.validateKeyword(keyword);
 
-        Boolean haveLocation = searchService.useGpt(keyword);
+        Boolean haveLocation = searchService.hasLocation(keyword);
         List<Long> placeIdListWithAccuracy;
 
         if (haveLocation) {
@@ -117,10 +111,8 @@ public class SearchController {
         // placeidlist 없을 때에 대한 예외처리
         // placeIdList 정확도순 정렬됨
 
-        List<PlaceNearbyDto> placeNearbyInfoList = placeService.getPlacesWithRepresentativeImage(userId, placeIdListWithAccuracy);
-        List<SearchTagReviewDto> placeNearbyTagReviewList = searchService.getPlacesWithReviewCountsAndTags(placeIdListWithAccuracy);
-
-        SearchResponseDto response = searchService.makeResponse(userId, placeNearbyInfoList, placeNearbyTagReviewList, "accuracy");
+        // 팔로워/장소 정보/장소 집계(대표 펑, 리뷰 수, 태그)를 동시에 조회해서 합침
+        SearchResponseDto response = searchEnrichmentPipeline.search(userId, placeIdListWithAccuracy, "accuracy");
         log.info("SearchResponseDtoCount: {}", response.getCount());
         return ResponseEntity.ok(response);
     }
@@ -140,7 +132,7 @@ public class SearchController {
             }
     )
     public ResponseEntity<SearchResponseDto> searchWithDistance(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticatedUser Long userId,
             @RequestParam String keyword,
             @RequestParam String swLng,
             @RequestParam String swLat,
@@ -151,16 +143,13 @@ public class SearchController {
     ) {
         log.info("Received request to /search/distance with keyword {}, SW({},{}) and NE({},{})", keyword, swLng, swLat, neLng, neLat);
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         // 유효성 검증
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validateCoordinates(x, y);
         ValidationUtils.validateRect(swLng, swLat, neLng, neLat);
         ValidationUtils.validateKeyword(keyword);
 
-        Boolean haveLocation = searchService.useGpt(keyword);
+        Boolean haveLocation = searchService.hasLocation(keyword);
         List<Long> placeIdListWithDistance;
 
         if (haveLocation) {
@@ -173,10 +162,8 @@ public class SearchController {
         // placeidlist 없을 때에 대한 예외처리
         // 거리순 정렬된 상태
 
-        List<PlaceNearbyDto> placeNearbyInfoList = placeService.getPlacesWithRepresentativeImage(userId, placeIdListWithDistance);
-        List<SearchTagReviewDto> placeNearbyTagReviewList = searchService.getPlacesWithReviewCountsAndTags(placeIdListWithDistance);
-
-        SearchResponseDto response = searchService.makeResponse(userId, placeNearbyInfoList, placeNearbyTagReviewList, "distance");
+        // 팔로워/장소 정보/장소 집계(대표 펑, 리뷰 수, 태그)를 동시에 조회해서 합침
+        SearchResponseDto response = searchEnrichmentPipeline.search(userId, placeIdListWithDistance, "distance");
         log.info("SearchResponseDtoCount: {}", response.getCount());
         return ResponseEntity.ok(response);
     }
@@ -1,7 +1,7 @@
 package com.ktb7.pinpung.controller;
 
 import com.ktb7.pinpung.dto.Place.SimplePlaceDto;
-import com.ktb7.pinpung.oauth2.service.TokenService;
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import com.ktb7.pinpung.service.PlaceService;
 import com.ktb7.pinpung.service.TagService;
 import com.ktb7.pinpung.util.ValidationUtils;
@@ -20,19 +20,15 @@ import java.util.List;
 public class TagController {
 
     private final TagService tagService;
-    private final TokenService tokenService;
     private final PlaceService placeService;
 
     @GetMapping
     public ResponseEntity<List<String>> getTags(
-            @RequestHeader("Authorization") String authorizationHeader
+            @AuthenticatedUser Long userId
     ) {
 
         log.info("Received request to /tags");
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         ValidationUtils.validateUserId(userId);
 
         List<String> response = tagService.getTags();
@@ -40,10 +36,25 @@ public class TagController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<List<String>> getTrendingTags(
+            @AuthenticatedUser Long userId,
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "5") Integer size
+    ) {
+        log.info("Received request to /tags/trending window: {}", window);
+
+        ValidationUtils.validateUserId(userId);
+        ValidationUtils.validatePageSize(size);
+
+        List<String> response = tagService.getTrendingTags(window, size);
+
+        return ResponseEntity.ok(response);
+    }
 
     @GetMapping("/cafeList")
     public ResponseEntity<List<SimplePlaceDto>> getTag(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthenticatedUser Long userId,
             @RequestParam String tagName,
             @RequestParam String swLng,
             @RequestParam String swLat,
@@ -52,14 +63,11 @@ public class TagController {
     ) {
         log.info("Received request to /tags/tagname{}", tagName);
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         ValidationUtils.validateUserId(userId);
         ValidationUtils.validateKeyword(tagName);
         ValidationUtils.validateRect(swLng, swLat, neLng, neLat);
 
-        List<Long> placeIds = placeService.categorySearch("카페", swLng, swLat, neLng, neLat, null, null, "accuracy");
+        List<Long> placeIds = placeService.cachedCategorySearch("카페", swLng, swLat, neLng, neLat, null, null, "accuracy");
         List<SimplePlaceDto> places = tagService.getPlacesFromTag(tagName, placeIds);
 
         return ResponseEntity.ok(places);
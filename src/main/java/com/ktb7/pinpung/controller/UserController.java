@@ -5,6 +5,7 @@ import com.ktb7.pinpung.dto.Profile.ProfileWithPungResponseDto;
 import com.ktb7.pinpung.dto.Profile.ProfileWithReviewResponseDto;
 import com.ktb7.pinpung.dto.Review.MessageResponseDto;
 import com.ktb7.pinpung.dto.User.TasteRequestDto;
+import com.ktb7.pinpung.oauth2.resolver.AuthenticatedUser;
 import com.ktb7.pinpung.oauth2.service.TokenService;
 import com.ktb7.pinpung.service.FollowService;
 import com.ktb7.pinpung.service.UserService;
@@ -70,9 +71,11 @@ public class UserController {
 
     @Operation(
             summary = "팔로워 목록 조회",
-            description = "특정 사용자의 팔로워 목록을 조회합니다."
+            description = "특정 사용자의 팔로워 목록을 최근 팔로우 순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘깁니다."
     )
-    public ResponseEntity<FollowsResponseDto> getFollowers(@RequestHeader("Authorization") String authorizationHeader, @PathVariable Long userId) {
+    public ResponseEntity<FollowsResponseDto> getFollowers(@RequestHeader("Authorization") String authorizationHeader, @PathVariable Long userId,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") Integer size) {
         log.info("Received request to /followers");
 
         String token = tokenService.extractBearerToken(authorizationHeader);
@@ -80,8 +83,9 @@ public class UserController {
 
         // 유효성 검증: id 검증
         ValidationUtils.validateUserId(userId);
+        ValidationUtils.validatePageSize(size);
 
-        FollowsResponseDto response = followService.getFollowers(userId);
+        FollowsResponseDto response = followService.getFollowers(userId, cursor, size);
 
         return ResponseEntity.ok(response);
     }
@@ -89,9 +93,11 @@ public class UserController {
     @GetMapping(value = "/{userId}/followings", produces = "application/json")
     @Operation(
             summary = "팔로잉 목록 조회",
-            description = "특정 사용자가 팔로잉한 사용자의 목록을 조회합니다."
+            description = "특정 사용자가 팔로잉한 사용자의 목록을 최근 팔로우 순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘깁니다."
     )
-    public ResponseEntity<FollowsResponseDto> getFollowings(@RequestHeader("Authorization") String authorizationHeader, @PathVariable Long userId) {
+    public ResponseEntity<FollowsResponseDto> getFollowings(@RequestHeader("Authorization") String authorizationHeader, @PathVariable Long userId,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "20") Integer size) {
         log.info("Received request to /followings");
 
         String token = tokenService.extractBearerToken(authorizationHeader);
@@ -99,20 +105,18 @@ public class UserController {
 
         // 유효성 검증: id 검증
         ValidationUtils.validateUserId(userId);
+        ValidationUtils.validatePageSize(size);
 
-        FollowsResponseDto response = followService.getFollowings(userId);
+        FollowsResponseDto response = followService.getFollowings(userId, cursor, size);
 
         return ResponseEntity.ok(response);
     }
 
 
     @PostMapping("/taste")
-    public MessageResponseDto getTaste(@RequestHeader("Authorization") String authorizationHeader, @RequestBody TasteRequestDto tasteRequestDto) {
+    public MessageResponseDto getTaste(@AuthenticatedUser Long userId, @RequestBody TasteRequestDto tasteRequestDto) {
         log.info("Received request to /taste");
 
-        String token = tokenService.extractBearerToken(authorizationHeader);
-        Long userId = tokenService.getUserFromToken(token);
-
         Integer age = tasteRequestDto.getAge();
         List<String> activities = tasteRequestDto.getActivities();
         List<String> menus = tasteRequestDto.getMenus();
@@ -8,6 +8,9 @@ import java.util.List;
 @Getter
 @AllArgsConstructor
 public class FollowsResponseDto {
+    // 전체 팔로워/팔로잉 수
     private Integer count;
     private List<SimpleUserDto> follows;
+    // 다음 페이지 요청에 그대로 넘기는 커서, 마지막 페이지면 null
+    private String nextCursor;
 }
@@ -0,0 +1,17 @@
+package com.ktb7.pinpung.dto.Follow;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 팔로워/팔로잉 목록 조회 결과 (followId 는 다음 페이지 커서용)
+@Getter
+@AllArgsConstructor
+public class SimpleFollowDto {
+    private Long followId;
+    private Long userId;
+    private String username;
+
+    public SimpleUserDto toSimpleUserDto() {
+        return new SimpleUserDto(userId, username);
+    }
+}
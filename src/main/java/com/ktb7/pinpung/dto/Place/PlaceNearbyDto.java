@@ -11,6 +11,9 @@ public class PlaceNearbyDto {
     private Boolean hasPung;
     private Boolean byFriend;
     private Long imageId;
+    // 축소본 S3 키 (생성 전이면 null, 원본 imageId 사용)
+    private String thumbnailKey;
+    private String markerKey;
     private String x;
     private String y;
 }
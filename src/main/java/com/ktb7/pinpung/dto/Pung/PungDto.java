@@ -12,6 +12,8 @@ public class PungDto {
     private Long userId;
     private String userName;
     private Long imageId;
+    // 축소본 S3 키 (생성 전이면 null, 원본 imageId 사용)
+    private String thumbnailKey;
     private String text;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
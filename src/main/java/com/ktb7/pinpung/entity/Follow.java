@@ -9,6 +9,13 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "Follow", indexes = {
+        // 팔로워/팔로잉 목록 keyset 페이지 (Follow.id 역순)
+        @Index(name = "idx_follow_following_id", columnList = "following_id, id"),
+        @Index(name = "idx_follow_follower_id", columnList = "follower_id, id"),
+        // 팔로우 관계 확인 (follower, following)
+        @Index(name = "idx_follow_follower_following", columnList = "follower_id, following_id")
+})
 @Setter
 @Getter
 public class Follow {
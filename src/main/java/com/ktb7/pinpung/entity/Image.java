@@ -25,6 +25,37 @@ public class Image {
     @Column(name="pureImageKey")
     private String pureImageKey;
 
+    // 업로드 후 비동기로 만드는 축소본 (ImageDerivativeService)
+    @Column(name="thumbnailKey")
+    private String thumbnailKey;
+
+    @Column(name="markerKey")
+    private String markerKey;
+
+    // 축소본 생성 실패 횟수, 디코딩할 수 없는 형식(HEIC 등)이면 unsupported (ImageDerivativeReconciler 재시도 제외)
+    @Column(name="derivativeFailures")
+    private Integer derivativeFailures = 0;
+
+    @Column(name="derivativeUnsupported")
+    private Boolean derivativeUnsupported = false;
+
+    // 업로드 시점에 기록하는 원본 메타데이터 (uploadedAt 이 있으면 S3 업로드 완료)
+    @Column(name="contentType")
+    private String contentType;
+
+    @Column(name="sizeBytes")
+    private Long sizeBytes;
+
+    @Column(name="uploadedAt")
+    private LocalDateTime uploadedAt;
+
+    // ImageReconciler 가 S3 에 실제로 있는지 확인한 시각과 결과
+    @Column(name="verifiedAt")
+    private LocalDateTime verifiedAt;
+
+    @Column(name="missing")
+    private Boolean missing = false;
+
     @CreationTimestamp
     @Column(name = "createdAt", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,36 @@
+package com.ktb7.pinpung.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// 검색 키워드(정규화)별 GPT 위치 정보 판단 결과
+@Entity
+@Table(name = "LocationKeywordDecision")
+@Setter
+@Getter
+public class LocationKeywordDecision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long decisionId;
+
+    @Column(name = "keyword", nullable = false, unique = true)
+    private String keyword;
+
+    @Column(name = "hasLocation", nullable = false)
+    private Boolean hasLocation;
+
+    @CreationTimestamp
+    @Column(name = "createdAt", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+}
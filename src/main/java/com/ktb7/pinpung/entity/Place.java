@@ -9,7 +9,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Place")
+@Table(name = "Place", indexes = @Index(name = "idx_place_lat_lng", columnList = "lat, lng"))
 @Getter
 @Setter // for test
 public class Place {
@@ -34,6 +34,13 @@ public class Place {
     @Column(name = "y", nullable = false)
     private String y;
 
+    // 범위 검색용 숫자 좌표 (x, y 와 같은 값, 기존 행은 PlaceSpatialIndexLoader 가 채움)
+    @Column(name = "lng")
+    private Double lng;
+
+    @Column(name = "lat")
+    private Double lat;
+
     @CreationTimestamp
     @Column(name = "createdAt", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,73 @@
+package com.ktb7.pinpung.entity;
+
+import com.ktb7.pinpung.util.StringListConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장소 카드/검색 결과에 쓰는 장소별 집계 (읽기 모델).
+ * Review, Pung, PlaceTag 가 바뀔 때 PlaceSummaryService.refresh 로 갱신되고,
+ * AI 서버가 직접 쓰는 PlaceTag 는 PlaceSummaryReconciler 가 바뀐 장소만 주기적으로 다시 맞춘다. 행이 없으면 빈 집계로 읽는다.
+ */
+@Entity
+@Table(name = "PlaceSummary", indexes = {
+        // 축소본이 만들어지면 대표 펑 이미지로 찾아 갱신 (ImageDerivativeService)
+        @Index(name = "idx_place_summary_pung_image", columnList = "representativePungImageId")
+})
+@Getter
+@Setter
+public class PlaceSummary {
+
+    @Id
+    @Column(name = "placeId", nullable = false)
+    private Long placeId;
+
+    @Column(name = "reviewCount", nullable = false)
+    private Long reviewCount = 0L;
+
+    // 가장 최근 리뷰의 이미지
+    @Column(name = "latestReviewImageId")
+    private Long latestReviewImageId;
+
+    // 대표 펑 (리뷰로 넘어가지 않은 가장 최근 펑)
+    @Column(name = "representativePungId")
+    private Long representativePungId;
+
+    @Column(name = "representativePungImageId")
+    private Long representativePungImageId;
+
+    @Column(name = "representativePungUserId")
+    private Long representativePungUserId;
+
+    // 대표 펑 이미지의 축소본 (아직 없으면 null)
+    @Column(name = "representativePungThumbnailKey")
+    private String representativePungThumbnailKey;
+
+    @Column(name = "representativePungMarkerKey")
+    private String representativePungMarkerKey;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "tags", columnDefinition = "TEXT")
+    private List<String> tags = new ArrayList<>();
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "representativeTags", columnDefinition = "TEXT")
+    private List<String> representativeTags = new ArrayList<>();
+
+    @UpdateTimestamp
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+
+    // 아직 집계가 없는 장소용 (리뷰/펑/태그 없음)
+    public static PlaceSummary empty(Long placeId) {
+        PlaceSummary summary = new PlaceSummary();
+        summary.setPlaceId(placeId);
+        return summary;
+    }
+}
@@ -8,7 +8,14 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "PlaceTag")
+@Table(name = "PlaceTag", indexes = {
+        // 태그 -> 장소
+        @Index(name = "idx_place_tag_tag_place", columnList = "tagId, placeId"),
+        // 장소 -> 태그
+        @Index(name = "idx_place_tag_place_tag", columnList = "placeId, tagId"),
+        // 최근 바뀐 장소 (PlaceSummaryReconciler)
+        @Index(name = "idx_place_tag_updated", columnList = "updatedAt, placeId")
+})
 @Getter
 public class PlaceTag {
 
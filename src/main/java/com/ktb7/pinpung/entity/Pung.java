@@ -9,7 +9,13 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Pung")
+@Table(name = "Pung", indexes = {
+        // 장소별 대표 펑/펑 목록 (placeId, isReview) + 최신순
+        @Index(name = "idx_pung_place_review_id", columnList = "placeId, isReview, id"),
+        @Index(name = "idx_pung_user_id", columnList = "userId, id"),
+        // 리뷰 전환 스케줄러 대상 범위
+        @Index(name = "idx_pung_review_updated", columnList = "isReview, updatedAt")
+})
 @Getter
 @Setter
 public class Pung {
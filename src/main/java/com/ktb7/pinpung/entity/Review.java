@@ -10,7 +10,11 @@ import java.text.DateFormat;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Review")
+@Table(name = "Review", indexes = {
+        // 장소별 리뷰 목록/최근 리뷰
+        @Index(name = "idx_review_place_created", columnList = "placeId, createdAt"),
+        @Index(name = "idx_review_user_place", columnList = "userId, placeId")
+})
 @Getter
 @Setter // for test
 public class Review {
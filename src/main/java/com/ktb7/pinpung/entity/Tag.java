@@ -8,7 +8,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Tag")
+@Table(name = "Tag", indexes = @Index(name = "idx_tag_name", columnList = "tagName"))
 @Getter
 public class Tag {
 
@@ -0,0 +1,72 @@
+package com.ktb7.pinpung.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 태그 생성 요청 outbox.
+ * 리뷰/펑 저장과 같은 트랜잭션에서 PENDING 으로 쌓이고, TagGenerationDispatcher 가 꺼내서 AI 서버에 보낸다.
+ * 끝난 작업(DONE/DEAD)은 보관 기간이 지나면 TagGenerationJobCleaner 가 지운다.
+ */
+@Entity
+@Table(name = "TagGenerationJob", indexes = {
+        @Index(name = "idx_tag_generation_job_status_next", columnList = "status, nextAttemptAt")
+})
+@Getter
+@Setter
+public class TagGenerationJob {
+
+    public enum Status {
+        PENDING,     // 대기 (재시도 대기 포함)
+        IN_PROGRESS, // 디스패처가 가져감 (lockedUntil 까지)
+        DONE,
+        DEAD         // 재시도 횟수 초과
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "placeId", nullable = false)
+    private Long placeId;
+
+    @Column(name = "userId", nullable = false)
+    private Long userId;
+
+    @Column(name = "reviewText", columnDefinition = "TEXT")
+    private String reviewText;
+
+    @Column(name = "reviewImageUrl")
+    private String reviewImageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "nextAttemptAt", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // IN_PROGRESS 작업의 임대 만료 시각 (인스턴스가 죽으면 만료 후 다시 가져감)
+    @Column(name = "lockedUntil")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "lastError", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "createdAt", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+}
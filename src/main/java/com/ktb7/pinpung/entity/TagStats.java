@@ -0,0 +1,34 @@
+package com.ktb7.pinpung.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그별 전체 tagCount 합계 (태그 순위 읽기 모델).
+ * PlaceTag 는 AI 서버가 쓰므로 태그 생성 작업이 끝난 장소의 태그만 TagLeaderboard 가 다시 합산하고,
+ * 나머지는 주기적인 전체 재계산으로 맞춘다.
+ */
+@Entity
+@Table(name = "TagStats", indexes = @Index(name = "idx_tag_stats_total", columnList = "totalCount"))
+@Getter
+@Setter
+public class TagStats {
+
+    @Id
+    @Column(name = "tagId", nullable = false)
+    private Long tagId;
+
+    @Column(name = "tagName", nullable = false)
+    private String tagName;
+
+    @Column(name = "totalCount", nullable = false)
+    private Long totalCount = 0L;
+
+    @UpdateTimestamp
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+}
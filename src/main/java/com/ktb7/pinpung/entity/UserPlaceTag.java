@@ -8,7 +8,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "UserPlaceTag")
+@Table(name = "UserPlaceTag", indexes = {
+        // 기간별 인기 태그 (createdAt 범위 + tagId 집계)
+        @Index(name = "idx_user_place_tag_created_tag", columnList = "createdAt, tagId")
+})
 @Getter
 public class UserPlaceTag {
 
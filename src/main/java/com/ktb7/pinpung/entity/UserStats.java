@@ -0,0 +1,40 @@
+package com.ktb7.pinpung.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로필에 쓰는 사용자별 카운터 (팔로워/팔로잉/펑/리뷰 수).
+ * Follow, Pung, Review 를 쓰는 트랜잭션에서 UserStatsService 로 함께 증감하고,
+ * UserStatsReconciler 가 주기적으로 원본 테이블 기준으로 다시 맞춘다.
+ */
+@Entity
+@Table(name = "UserStats")
+@Getter
+@Setter
+public class UserStats {
+
+    @Id
+    @Column(name = "userId", nullable = false)
+    private Long userId;
+
+    @Column(name = "followerCount", nullable = false)
+    private Long followerCount = 0L;
+
+    @Column(name = "followingCount", nullable = false)
+    private Long followingCount = 0L;
+
+    @Column(name = "pungCount", nullable = false)
+    private Long pungCount = 0L;
+
+    @Column(name = "reviewCount", nullable = false)
+    private Long reviewCount = 0L;
+
+    @UpdateTimestamp
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+}
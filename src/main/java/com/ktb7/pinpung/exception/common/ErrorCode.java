@@ -42,6 +42,7 @@ public enum ErrorCode {
     API_CALL_FAILED("500_API_CALL_FAILED", "API CALL에 실패했습니다."),
     KAKAO_API_CALL_FAILED("500_KAKAO_API_CALL_FAILED", "카카오 API 호출에 실패했습니다."),
 
+    GEN_TAGS_REQUEST_FAILED("500_GEN_TAGS_REQUEST_FAILED", "태그 생성 요청 중 오류가 발생했습니다."),
     RECOMMEND_TAGS_REQUEST_FAILED("500_RECOMMEND_TAGS_REQUEST_FAILED", "추천 태그 요청 중 오류가 발생했습니다."),
     RECOMMEND_TAGS_RESPONSE_INVALID("500_RECOMMEND_TAGS_RESPONSE_INVALID", "추천 태그 API 응답이 유효하지 않습니다."),
     RECOMMEND_TAGS_DATA_PROCESSING_FAILED("500_RECOMMEND_TAGS_DATA_PROCESSING_FAILED", "추천 태그 데이터를 처리하는 중 오류가 발생했습니다.");
@@ -1,17 +1,22 @@
 package com.ktb7.pinpung.oauth2;
 
 import com.ktb7.pinpung.exception.common.LogoutFailureException;
+import com.ktb7.pinpung.oauth2.service.KakaoTokenCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class OAuth2LogoutCustomHandler implements LogoutHandler {
 
+    private final KakaoTokenCache kakaoTokenCache;
+
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String clientId;
 
@@ -25,6 +30,12 @@ public class OAuth2LogoutCustomHandler implements LogoutHandler {
             session.invalidate();
         }
 
+        // 로그아웃한 토큰은 캐시에서 바로 제거
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            kakaoTokenCache.evict(authorizationHeader.substring(7));
+        }
+
         String kakaoLogoutUrl = "https://kauth.kakao.com/oauth/logout"
                 + "?client_id=" + clientId
                 + "&logout_redirect_uri=" + logoutRedirectUri;
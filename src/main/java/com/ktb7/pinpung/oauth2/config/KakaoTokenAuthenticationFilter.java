@@ -4,6 +4,7 @@ import com.ktb7.pinpung.entity.User;
 import com.ktb7.pinpung.exception.common.CustomException;
 import com.ktb7.pinpung.exception.common.ErrorCode;
 import com.ktb7.pinpung.oauth2.dto.KakaoTokenInfoResponseDto;
+import com.ktb7.pinpung.oauth2.service.KakaoTokenCache;
 import com.ktb7.pinpung.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -29,6 +30,8 @@ public class KakaoTokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final String kakaoUserInfoUrl = "https://kapi.kakao.com/v1/user/access_token_info";
     private final UserRepository userRepository;
+    private final KakaoTokenCache kakaoTokenCache;
+    private final WebClient kakaoAuthWebClient;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -50,13 +53,10 @@ public class KakaoTokenAuthenticationFilter extends OncePerRequestFilter {
             log.info("{}", token);
 
             try {
-                // socialId로 userId 찾기
-                Long socialId = validateTokenAndExtractUserId(token);
-                log.info("Validate user id {}", socialId);
-                User user = userRepository.findBySocialId(socialId)
-                        .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.USER_NOT_FOUND));
+                // 캐시에 없을 때만 카카오 검증 + socialId로 userId 찾기
+                Long userId = kakaoTokenCache.getUserId(token)
+                        .orElseGet(() -> resolveUserId(token));
 
-                Long userId = user.getUserId();
                 if (userId != null) {
                     Authentication auth = new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
                     SecurityContextHolder.getContext().setAuthentication(auth);
@@ -87,13 +87,22 @@ public class KakaoTokenAuthenticationFilter extends OncePerRequestFilter {
     }
 
 
-    private Long validateTokenAndExtractUserId(String token) {
-        WebClient webClient = WebClient.builder()
-                .baseUrl(kakaoUserInfoUrl)
-                .build();
+    private Long resolveUserId(String token) {
+        KakaoTokenInfoResponseDto tokenInfo = validateToken(token);
+        Long socialId = tokenInfo.getId();
+        log.info("Validate user id {}", socialId);
 
-        KakaoTokenInfoResponseDto kakaoTokenInfoResponseDto = webClient
+        User user = userRepository.findBySocialId(socialId)
+                .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.USER_NOT_FOUND));
+
+        kakaoTokenCache.put(token, user.getUserId(), tokenInfo.getExpires_in());
+        return user.getUserId();
+    }
+
+    private KakaoTokenInfoResponseDto validateToken(String token) {
+        KakaoTokenInfoResponseDto kakaoTokenInfoResponseDto = kakaoAuthWebClient
                 .get()
+                .uri(kakaoUserInfoUrl)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
                 .retrieve()
                 .onStatus(status -> status.is4xxClientError(), response ->
@@ -109,6 +118,6 @@ public class KakaoTokenAuthenticationFilter extends OncePerRequestFilter {
             throw new CustomException(HttpStatus.UNAUTHORIZED, ErrorCode.INVALID_TOKEN_OR_SOCIAL_ID, ErrorCode.INVALID_TOKEN_OR_SOCIAL_ID.getMsg());
         }
         log.info("{}", kakaoTokenInfoResponseDto.getExpires_in());
-        return kakaoTokenInfoResponseDto.getId();
+        return kakaoTokenInfoResponseDto;
     }
 }
\ No newline at end of file
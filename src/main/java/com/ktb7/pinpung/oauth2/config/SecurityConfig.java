@@ -4,9 +4,11 @@ import com.ktb7.pinpung.oauth2.OAuth2LoginFailureHandler;
 import com.ktb7.pinpung.oauth2.OAuth2LoginSuccessHandler;
 import com.ktb7.pinpung.oauth2.OAuth2LogoutCustomHandler;
 import com.ktb7.pinpung.oauth2.service.CustomOAuth2UserService;
+import com.ktb7.pinpung.oauth2.service.KakaoTokenCache;
 import com.ktb7.pinpung.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -17,6 +19,7 @@ import org.springframework.security.web.authentication.AnonymousAuthenticationFi
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.List;
 
@@ -31,6 +34,9 @@ public class SecurityConfig {
     private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
     private final OAuth2LogoutCustomHandler oAuth2LogoutCustomHandler;
     private final UserRepository userRepository;
+    private final KakaoTokenCache kakaoTokenCache;
+    @Qualifier("kakaoAuthWebClient")
+    private final WebClient kakaoAuthWebClient;
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -123,7 +129,7 @@ public class SecurityConfig {
                         .logoutSuccessUrl("/logout-success")
                         .addLogoutHandler(oAuth2LogoutCustomHandler)
                 )
-                .addFilterBefore(new KakaoTokenAuthenticationFilter(userRepository), AnonymousAuthenticationFilter.class);
+                .addFilterBefore(new KakaoTokenAuthenticationFilter(userRepository, kakaoTokenCache, kakaoAuthWebClient), AnonymousAuthenticationFilter.class);
 
         return http.build();
     }
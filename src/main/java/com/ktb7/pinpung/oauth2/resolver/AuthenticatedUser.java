@@ -0,0 +1,15 @@
+package com.ktb7.pinpung.oauth2.resolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * KakaoTokenAuthenticationFilter 가 SecurityContext 에 넣어둔 userId 를 컨트롤러 파라미터로 주입한다.
+ * 컨트롤러에서 토큰을 다시 검증하지 않도록 사용.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AuthenticatedUser {
+}
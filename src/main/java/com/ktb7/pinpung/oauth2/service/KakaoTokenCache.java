@@ -0,0 +1,95 @@
+package com.ktb7.pinpung.oauth2.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 액세스 토큰 해시 -> userId 로컬 캐시.
+ * 카카오 access_token_info 호출과 socialId 조회를 요청마다 반복하지 않도록 한다.
+ * 만료 시간은 카카오가 돌려준 expires_in 을 따르되, 카카오 측에서 폐기된 토큰이 너무 오래 통과하지 않도록 max-ttl 로 상한을 둔다.
+ */
+@Slf4j
+@Component
+public class KakaoTokenCache {
+
+    private final Cache<String, CachedToken> cache;
+    private final Duration maxTtl;
+
+    public KakaoTokenCache(MeterRegistry meterRegistry,
+                           @Value("${kakao.token-cache.max-size:10000}") long maxSize,
+                           @Value("${kakao.token-cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+                        return value.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+                        return value.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등이 actuator metrics 로 노출됨
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kakaoTokenCache");
+    }
+
+    public Optional<Long> getUserId(String token) {
+        CachedToken cached = cache.getIfPresent(hash(token));
+        return Optional.ofNullable(cached).map(CachedToken::userId);
+    }
+
+    public void put(String token, Long userId, Integer expiresInSeconds) {
+        if (userId == null || expiresInSeconds == null || expiresInSeconds <= 0) {
+            return;
+        }
+
+        Duration ttl = Duration.ofSeconds(expiresInSeconds);
+        if (ttl.compareTo(maxTtl) > 0) {
+            ttl = maxTtl;
+        }
+        cache.put(hash(token), new CachedToken(userId, ttl));
+    }
+
+    // 로그아웃 시 해당 토큰 즉시 제거
+    public void evict(String token) {
+        cache.invalidate(hash(token));
+        log.info("Kakao token cache entry evicted");
+    }
+
+    // 원본 토큰은 메모리에 들고 있지 않고 SHA-256 해시만 키로 사용
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record CachedToken(Long userId, Duration ttl) {
+    }
+}
@@ -11,6 +11,7 @@ import com.ktb7.pinpung.repository.TokenRepository;
 import com.ktb7.pinpung.repository.UserRepository;
 import com.ktb7.pinpung.util.ValidationUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -33,6 +34,8 @@ public class TokenService {
 
     private final TokenRepository tokenRepository;
     private final UserRepository userRepository;
+    @Qualifier("kakaoAuthWebClient")
+    private final WebClient kakaoAuthWebClient;
 
     public ResponseEntity<?> validateToken(String authorizationHeader) {
         // 헤더에서 토큰 가져오기
@@ -49,9 +52,9 @@ public class TokenService {
         Token token = tokenRepository.findByUserId(userId)
                 .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.REFRESH_TOKEN_NOT_FOUND));
 
-        KakaoTokenResponseDto kakaoTokenResponseDto = WebClient.create(kakaoTokenUrl)
+        KakaoTokenResponseDto kakaoTokenResponseDto = kakaoAuthWebClient
                 .post()
-                .uri(uriBuilder -> uriBuilder
+                .uri(kakaoTokenUrl, uriBuilder -> uriBuilder
                         .queryParam("grant_type", "refresh_token")
                         .queryParam("client_id", clientId)
                         .queryParam("refresh_token", token.getRefreshToken())
@@ -92,7 +95,8 @@ public class TokenService {
 
     public Long getUserFromToken(String token) {
         // 카카오 API를 통한 토큰 유효성 검증
-        KakaoTokenInfoResponseDto kakaoTokenInfoResponseDto = WebClient.create(kakaoUserInfoUrl).get()
+        KakaoTokenInfoResponseDto kakaoTokenInfoResponseDto = kakaoAuthWebClient.get()
+                .uri(kakaoUserInfoUrl)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
                 .retrieve()
                 .bodyToMono(KakaoTokenInfoResponseDto.class)
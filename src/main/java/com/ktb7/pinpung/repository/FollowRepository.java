@@ -1,9 +1,12 @@
 package com.ktb7.pinpung.repository;
 
+import com.ktb7.pinpung.dto.Follow.SimpleFollowDto;
 import com.ktb7.pinpung.entity.Follow;
 import com.ktb7.pinpung.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,10 +14,18 @@ import java.util.Optional;
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
 
-    @Query("SELECT f.follower FROM Follow f WHERE f.following.id = :userId")
-    List<User> findFollowersByUserId(Long userId);
+    // 팔로워 목록, Follow.id 역순 keyset 페이지 (beforeId 보다 작은 id 부터 pageable 크기만큼)
+    @Query("SELECT new com.ktb7.pinpung.dto.Follow.SimpleFollowDto(f.followId, u.userId, u.userName) " +
+            "FROM Follow f JOIN f.follower u " +
+            "WHERE f.following.userId = :userId AND f.followId < :beforeId ORDER BY f.followId DESC")
+    List<SimpleFollowDto> findFollowersPage(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable pageable);
 
-    @Query("SELECT f.following FROM Follow f WHERE f.follower.id = :userId")
-    List<User> findFollowingsByUserId(Long userId);
-}
+    @Query("SELECT f.follower.userId FROM Follow f WHERE f.following.userId = :userId")
+    List<Long> findFollowerIdsByUserId(Long userId);
 
+    // 팔로잉 목록, Follow.id 역순 keyset 페이지
+    @Query("SELECT new com.ktb7.pinpung.dto.Follow.SimpleFollowDto(f.followId, u.userId, u.userName) " +
+            "FROM Follow f JOIN f.following u " +
+            "WHERE f.follower.userId = :userId AND f.followId < :beforeId ORDER BY f.followId DESC")
+    List<SimpleFollowDto> findFollowingsPage(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable pageable);
+}
@@ -1,9 +1,51 @@
 package com.ktb7.pinpung.repository;
 
 import com.ktb7.pinpung.entity.Image;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
-}
\ No newline at end of file
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Image i SET i.thumbnailKey = :thumbnailKey, i.markerKey = :markerKey WHERE i.imageId = :imageId")
+    int updateDerivativeKeys(@Param("imageId") Long imageId, @Param("thumbnailKey") String thumbnailKey, @Param("markerKey") String markerKey);
+
+    // [imageId, thumbnailKey] (축소본이 있는 이미지만)
+    @Query("SELECT i.imageId, i.thumbnailKey FROM Image i WHERE i.imageId IN :imageIds AND i.thumbnailKey IS NOT NULL")
+    List<Object[]> findThumbnailKeys(@Param("imageIds") Collection<Long> imageIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Image i SET i.derivativeFailures = COALESCE(i.derivativeFailures, 0) + 1, " +
+            "i.derivativeUnsupported = :unsupported WHERE i.imageId = :imageId")
+    int recordDerivativeFailure(@Param("imageId") Long imageId, @Param("unsupported") Boolean unsupported);
+
+    // 업로드는 끝났는데 축소본이 없는 이미지 (대기열이 차서 버려졌거나 실패한 작업 재시도, imageId keyset)
+    // 지원하지 않는 형식이거나 maxFailures 번 실패한 이미지는 제외
+    @Query("SELECT i FROM Image i WHERE i.imageId > :afterId AND i.thumbnailKey IS NULL AND (i.missing = false OR i.missing IS NULL) " +
+            "AND (i.imageTextKey IS NOT NULL OR i.pureImageKey IS NOT NULL) AND i.createdAt < :before " +
+            "AND (i.derivativeUnsupported = false OR i.derivativeUnsupported IS NULL) " +
+            "AND (i.derivativeFailures < :maxFailures OR i.derivativeFailures IS NULL) ORDER BY i.imageId")
+    List<Image> findWithoutDerivatives(@Param("afterId") Long afterId, @Param("before") LocalDateTime before,
+                                       @Param("maxFailures") int maxFailures, Pageable pageable);
+
+    // 확인한 적 없거나 확인한 지 오래된 이미지부터
+    @Query("SELECT i FROM Image i WHERE i.verifiedAt IS NULL OR i.verifiedAt < :before ORDER BY i.verifiedAt, i.imageId")
+    List<Image> findToVerify(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Image i SET i.verifiedAt = :verifiedAt, i.missing = :missing WHERE i.imageId = :imageId")
+    int updateVerification(@Param("imageId") Long imageId, @Param("verifiedAt") LocalDateTime verifiedAt, @Param("missing") Boolean missing);
+}
@@ -0,0 +1,12 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.entity.LocationKeywordDecision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface LocationKeywordDecisionRepository extends JpaRepository<LocationKeywordDecision, Long> {
+    Optional<LocationKeywordDecision> findByKeyword(String keyword);
+}
@@ -1,21 +1,45 @@
 package com.ktb7.pinpung.repository;
 
 import com.ktb7.pinpung.entity.Place;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceRepositoryCustom {
     Optional<Place> findByKakaoPlaceId(String kakaoPlaceId);
 
+    List<Place> findByKakaoPlaceIdIn(Collection<String> kakaoPlaceIds);
+
     @Query("SELECT p.address FROM Place p WHERE p.placeId = :placeId")
     Optional<String> findAddressByPlaceId(@Param("placeId") Long placeId);
 
     @Query("SELECT p.placeId, p.placeName FROM Place p WHERE p.placeId IN :placeIds")
     List<Object[]> findPlaceNamesByPlaceIds(@Param("placeIds") List<Long> placeIds);
+
+    // (lat, lng) 인덱스를 타는 사각형 범위 검색, PlaceSpatialIndex 와 같이 중심(cx, cy)에서 가까운 순 (cosLat 으로 경도 보정)
+    @Query("SELECT p.placeId FROM Place p WHERE p.lat BETWEEN :swLat AND :neLat AND p.lng BETWEEN :swLng AND :neLng " +
+            "ORDER BY (p.lng - :cx) * (p.lng - :cx) * :cosLat * :cosLat + (p.lat - :cy) * (p.lat - :cy), p.placeId")
+    List<Long> findIdsInBoundingBox(@Param("swLng") Double swLng, @Param("swLat") Double swLat,
+                                    @Param("neLng") Double neLng, @Param("neLat") Double neLat,
+                                    @Param("cx") Double centerLng, @Param("cy") Double centerLat,
+                                    @Param("cosLat") Double cosLat, Pageable pageable);
+
+    // 공간 인덱스 적재용 (placeId, lng, lat), placeId 커서로 나눠서 조회
+    @Query("SELECT p.placeId, p.lng, p.lat FROM Place p WHERE p.placeId > :afterId AND p.lng IS NOT NULL AND p.lat IS NOT NULL ORDER BY p.placeId")
+    List<Object[]> findCoordinatesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 문자열 x, y 로부터 숫자 좌표 백필 (batchSize 행씩)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE Place SET lng = CAST(x AS DECIMAL(13,10)), lat = CAST(y AS DECIMAL(12,10)) WHERE lng IS NULL OR lat IS NULL LIMIT :batchSize", nativeQuery = true)
+    int backfillCoordinates(@Param("batchSize") int batchSize);
 }
@@ -0,0 +1,11 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.entity.Place;
+
+import java.util.List;
+
+public interface PlaceRepositoryCustom {
+
+    // kakaoPlaceId 가 이미 있으면 무시하고 나머지만 한 번에 INSERT
+    void insertIgnoringDuplicates(List<Place> places);
+}
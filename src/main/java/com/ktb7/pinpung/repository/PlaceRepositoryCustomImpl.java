@@ -0,0 +1,41 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.entity.Place;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
+
+    // IDENTITY 키라 JPA saveAll 은 배치가 안 되므로 JDBC 배치 사용
+    // (rewriteBatchedStatements=true 이면 multi-row INSERT 한 번으로 전송됨)
+    // 동시에 같은 kakaoPlaceId 를 넣는 경우 unique 제약에 걸리지 않도록 ON DUPLICATE KEY 로 무시
+    private static final String INSERT_IGNORING_DUPLICATES_SQL =
+            "INSERT INTO Place (kakaoPlaceId, placeName, address, x, y, lng, lat, createdAt, updatedAt) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE kakaoPlaceId = kakaoPlaceId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertIgnoringDuplicates(List<Place> places) {
+        if (places.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_IGNORING_DUPLICATES_SQL, places, places.size(), (ps, place) -> {
+            ps.setString(1, place.getKakaoPlaceId());
+            ps.setString(2, place.getPlaceName());
+            ps.setString(3, place.getAddress());
+            ps.setString(4, place.getX());
+            ps.setString(5, place.getY());
+            ps.setObject(6, place.getLng(), Types.DOUBLE);
+            ps.setObject(7, place.getLat(), Types.DOUBLE);
+        });
+    }
+}
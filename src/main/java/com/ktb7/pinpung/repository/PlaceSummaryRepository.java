@@ -0,0 +1,39 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.entity.PlaceSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlaceSummaryRepository extends JpaRepository<PlaceSummary, Long>, PlaceSummaryRepositoryCustom {
+    List<PlaceSummary> findByPlaceIdIn(Collection<Long> placeIds);
+
+    // 리뷰/펑/태그가 있는데 집계 행이 없는 장소 (배포 전 데이터 백필용, placeId keyset)
+    @Query("SELECT DISTINCT r.placeId FROM Review r WHERE r.placeId > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM PlaceSummary s WHERE s.placeId = r.placeId) ORDER BY r.placeId")
+    List<Long> findReviewedPlaceIdsWithoutSummary(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT DISTINCT p.placeId FROM Pung p WHERE p.placeId > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM PlaceSummary s WHERE s.placeId = p.placeId) ORDER BY p.placeId")
+    List<Long> findPungedPlaceIdsWithoutSummary(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT DISTINCT pt.placeId FROM PlaceTag pt WHERE pt.placeId > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM PlaceSummary s WHERE s.placeId = pt.placeId) ORDER BY pt.placeId")
+    List<Long> findTaggedPlaceIdsWithoutSummary(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 대표 펑 이미지의 축소본이 집계 이후에 만들어진 경우
+    @Modifying
+    @Transactional
+    @Query("UPDATE PlaceSummary s SET s.representativePungThumbnailKey = :thumbnailKey, s.representativePungMarkerKey = :markerKey " +
+            "WHERE s.representativePungImageId = :imageId")
+    int updateRepresentativeDerivativeKeys(@Param("imageId") Long imageId, @Param("thumbnailKey") String thumbnailKey,
+                                           @Param("markerKey") String markerKey);
+}
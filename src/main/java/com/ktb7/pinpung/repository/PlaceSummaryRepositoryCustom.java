@@ -0,0 +1,10 @@
+package com.ktb7.pinpung.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PlaceSummaryRepositoryCustom {
+
+    // 리뷰/펑 집계는 DB 에서 다시 계산하고, 태그 목록은 넘겨받은 값으로 upsert
+    void upsertSummaries(Map<Long, List<String>> tagsByPlaceId, Map<Long, List<String>> representativeTagsByPlaceId);
+}
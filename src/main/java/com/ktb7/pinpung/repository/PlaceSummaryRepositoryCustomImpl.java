@@ -0,0 +1,55 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.util.StringListConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PlaceSummaryRepositoryCustomImpl implements PlaceSummaryRepositoryCustom {
+
+    // 한 문장으로 계산 + upsert 해서 동시에 같은 장소를 갱신해도 PK 충돌이 나지 않음
+    private static final String REPRESENTATIVE_PUNG_ID =
+            "(SELECT MAX(p2.id) FROM Pung p2 WHERE p2.placeId = ? AND p2.isReview = 0)";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO PlaceSummary (placeId, reviewCount, latestReviewImageId, " +
+            "representativePungId, representativePungImageId, representativePungUserId, " +
+            "representativePungThumbnailKey, representativePungMarkerKey, tags, representativeTags, updatedAt) " +
+            "VALUES (?, " +
+            "(SELECT COUNT(*) FROM Review r WHERE r.placeId = ?), " +
+            "(SELECT r.imageId FROM Review r WHERE r.placeId = ? ORDER BY r.createdAt DESC, r.id DESC LIMIT 1), " +
+            REPRESENTATIVE_PUNG_ID + ", " +
+            "(SELECT p.imageId FROM Pung p WHERE p.id = " + REPRESENTATIVE_PUNG_ID + "), " +
+            "(SELECT p.userId FROM Pung p WHERE p.id = " + REPRESENTATIVE_PUNG_ID + "), " +
+            "(SELECT i.thumbnailKey FROM Pung p JOIN Image i ON i.id = p.imageId WHERE p.id = " + REPRESENTATIVE_PUNG_ID + "), " +
+            "(SELECT i.markerKey FROM Pung p JOIN Image i ON i.id = p.imageId WHERE p.id = " + REPRESENTATIVE_PUNG_ID + "), " +
+            "?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE reviewCount = VALUES(reviewCount), latestReviewImageId = VALUES(latestReviewImageId), " +
+            "representativePungId = VALUES(representativePungId), representativePungImageId = VALUES(representativePungImageId), " +
+            "representativePungUserId = VALUES(representativePungUserId), " +
+            "representativePungThumbnailKey = VALUES(representativePungThumbnailKey), " +
+            "representativePungMarkerKey = VALUES(representativePungMarkerKey), tags = VALUES(tags), " +
+            "representativeTags = VALUES(representativeTags), updatedAt = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertSummaries(Map<Long, List<String>> tagsByPlaceId, Map<Long, List<String>> representativeTagsByPlaceId) {
+        List<Long> placeIds = new ArrayList<>(tagsByPlaceId.keySet());
+        if (placeIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, placeIds, placeIds.size(), (ps, placeId) -> {
+            for (int i = 1; i <= 8; i++) {
+                ps.setLong(i, placeId);
+            }
+            ps.setString(9, StringListConverter.toJson(tagsByPlaceId.get(placeId)));
+            ps.setString(10, StringListConverter.toJson(representativeTagsByPlaceId.getOrDefault(placeId, List.of())));
+        });
+    }
+}
@@ -1,24 +1,40 @@
 package com.ktb7.pinpung.repository;
 
 import com.ktb7.pinpung.entity.PlaceTag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PlaceTagRepository extends JpaRepository<PlaceTag, Long> {
 
+    // TagStats 전체 재계산용
+    @Query("SELECT DISTINCT pt.tagId FROM PlaceTag pt")
+    List<Long> findAllTagIds();
+
+    @Query("SELECT pt.tagId FROM PlaceTag pt WHERE pt.placeId = :placeId")
+    List<Long> findTagIdsByPlaceId(@Param("placeId") Long placeId);
+
+    // 기간 내 사용자 태그 횟수 기준 상위 태그 (UserPlaceTag.createdAt 인덱스 범위)
     @Query("SELECT t.tagName " +
-            "FROM PlaceTag pt " +
-            "JOIN Tag t ON pt.tagId = t.tagId " +
+            "FROM UserPlaceTag upt JOIN Tag t ON upt.tagId = t.tagId " +
+            "WHERE upt.createdAt >= :since " +
             "GROUP BY t.tagId, t.tagName " +
-            "ORDER BY SUM(pt.tagCount) DESC")
-    List<String> findTop5TagsByTagCount();
+            "ORDER BY COUNT(upt) DESC, t.tagId")
+    List<String> findTopTagNamesSince(@Param("since") LocalDateTime since, Pageable pageable);
 
-    @Query("SELECT pt.placeId " +
+    // 태그가 붙은 장소 중 placeIds 에 있는 것만 (Tag.tagName 인덱스 -> PlaceTag (tagId, placeId) 인덱스)
+    @Query("SELECT DISTINCT pt.placeId " +
             "FROM PlaceTag pt JOIN Tag t ON pt.tagId = t.tagId " +
-            "WHERE t.tagName = :tagName")
-    List<Long> findPlaceIdsByTagName(@Param("tagName") String tagName);
+            "WHERE t.tagName = :tagName AND pt.placeId IN :placeIds")
+    List<Long> findPlaceIdsByTagNameAndPlaceIdIn(@Param("tagName") String tagName, @Param("placeIds") Collection<Long> placeIds);
+
 
+    // since 이후 태그가 바뀐 장소
+    @Query("SELECT DISTINCT pt.placeId FROM PlaceTag pt WHERE pt.updatedAt > :since")
+    List<Long> findPlaceIdsUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -5,9 +5,11 @@ import com.ktb7.pinpung.entity.Pung;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,7 +17,8 @@ import java.util.Optional;
 
 @Repository
 public interface PungRepository extends JpaRepository<Pung, Long> {
-    Optional<Pung> findFirstByPlaceIdAndIsReviewFalse(Long placeId);
+    // 대표 펑: 리뷰로 넘어가지 않은 가장 최근 펑 (PlaceSummary.representativePungId 와 같은 기준)
+    Optional<Pung> findFirstByPlaceIdAndIsReviewFalseOrderByPungIdDesc(Long placeId);
     Page<Pung> findByPlaceIdAndIsReviewFalse(Long placeId, Pageable pageable);
 
     Page<Pung> findByUserId(Long userId, Pageable pageable);
@@ -27,9 +30,22 @@ public interface PungRepository extends JpaRepository<Pung, Long> {
             "FROM Pung p WHERE p.userId = :userId")
     List<SimplePung> findSimplePungByUserId(@Param("userId") Long userId);
 
-    // pung2review 스케줄러에서 24시간내 펑은 isreview 처리
-    @Query("SELECT p FROM Pung p WHERE p.updatedAt >= :yesterday")
-    List<Pung> findCreatedIn24H(@Param("yesterday") LocalDateTime yesterday);
+    // pung2review 스케줄러에서 24시간내 펑은 isreview 처리, 전환 대상 펑의 id 범위 (MIN, MAX)
+    @Query("SELECT MIN(p.pungId), MAX(p.pungId) FROM Pung p WHERE p.updatedAt >= :yesterday AND p.isReview = false")
+    List<Object[]> findReviewTargetIdRange(@Param("yesterday") LocalDateTime yesterday);
+
+    @Query("SELECT DISTINCT p.placeId FROM Pung p WHERE p.pungId >= :fromId AND p.pungId < :toId " +
+            "AND p.updatedAt >= :yesterday AND p.isReview = false")
+    List<Long> findReviewTargetPlaceIds(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                        @Param("yesterday") LocalDateTime yesterday);
+
+    // id 범위 단위 일괄 전환. 벌크 UPDATE 라 @UpdateTimestamp(updatedAt)는 바뀌지 않음
+    @Modifying
+    @Transactional
+    @Query("UPDATE Pung p SET p.isReview = true WHERE p.pungId >= :fromId AND p.pungId < :toId " +
+            "AND p.updatedAt >= :yesterday AND p.isReview = false")
+    int markReviewInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                          @Param("yesterday") LocalDateTime yesterday);
 
 }
 
@@ -0,0 +1,60 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.entity.TagGenerationJob;
+import com.ktb7.pinpung.entity.TagGenerationJob.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagGenerationJobRepository extends JpaRepository<TagGenerationJob, Long> {
+
+    // 실행할 차례가 된 PENDING 작업 + 임대가 만료된 IN_PROGRESS 작업
+    @Query("SELECT j.jobId FROM TagGenerationJob j " +
+            "WHERE (j.status = com.ktb7.pinpung.entity.TagGenerationJob.Status.PENDING AND j.nextAttemptAt <= :now) " +
+            "OR (j.status = com.ktb7.pinpung.entity.TagGenerationJob.Status.IN_PROGRESS AND j.lockedUntil <= :now) " +
+            "ORDER BY j.nextAttemptAt")
+    List<Long> findDueJobIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 UPDATE 로 가져가서 여러 인스턴스가 같은 작업을 동시에 실행하지 않음 (1이면 성공)
+    @Modifying
+    @Transactional
+    @Query("UPDATE TagGenerationJob j SET j.status = com.ktb7.pinpung.entity.TagGenerationJob.Status.IN_PROGRESS, " +
+            "j.lockedUntil = :lockedUntil, j.attempts = j.attempts + 1 " +
+            "WHERE j.jobId = :jobId AND (" +
+            "(j.status = com.ktb7.pinpung.entity.TagGenerationJob.Status.PENDING AND j.nextAttemptAt <= :now) " +
+            "OR (j.status = com.ktb7.pinpung.entity.TagGenerationJob.Status.IN_PROGRESS AND j.lockedUntil <= :now))")
+    int claim(@Param("jobId") Long jobId, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 임대가 살아 있는 IN_PROGRESS 작업만 결과 반영 (0이면 임대가 만료돼 다른 인스턴스가 가져갔거나 이미 끝난 작업)
+    @Modifying
+    @Transactional
+    @Query("UPDATE TagGenerationJob j SET j.status = :status, j.nextAttemptAt = :nextAttemptAt, " +
+            "j.lockedUntil = NULL, j.lastError = :lastError " +
+            "WHERE j.jobId = :jobId AND j.status = com.ktb7.pinpung.entity.TagGenerationJob.Status.IN_PROGRESS " +
+            "AND j.lockedUntil > :now")
+    int updateStatus(@Param("jobId") Long jobId, @Param("status") Status status,
+                     @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError,
+                     @Param("now") LocalDateTime now);
+
+    long countByStatusIn(Collection<Status> statuses);
+
+    // 보관 기간이 지난 끝난 작업 (jobId keyset)
+    @Query("SELECT j.jobId FROM TagGenerationJob j WHERE j.jobId > :afterId AND j.status = :status AND j.updatedAt < :before " +
+            "ORDER BY j.jobId")
+    List<Long> findExpiredJobIds(@Param("afterId") Long afterId, @Param("status") Status status,
+                                 @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TagGenerationJob j WHERE j.jobId IN :jobIds AND j.status = :status")
+    int deleteByJobIdInAndStatus(@Param("jobIds") Collection<Long> jobIds, @Param("status") Status status);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,4 +21,11 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
             "FROM PlaceTag pt JOIN Tag t ON pt.tagId = t.tagId " +
             "WHERE pt.placeId = :placeId")
     List<String> findTagNamesByPlaceId(@Param("placeId") Long placeId);
+
+    // PlaceSummary 갱신용 (placeId, tagName, isRepresentative)
+    @Query("SELECT pt.placeId, t.tagName, pt.isRepresentative " +
+            "FROM PlaceTag pt JOIN Tag t ON pt.tagId = t.tagId " +
+            "WHERE pt.placeId IN :placeIds " +
+            "ORDER BY pt.placeTagId")
+    List<Object[]> findAllTagsByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.entity.TagStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface TagStatsRepository extends JpaRepository<TagStats, Long>, TagStatsRepositoryCustom {
+    // 전체 기간 상위 태그 (totalCount 인덱스 역순으로 pageable 크기만큼)
+    @Query("SELECT s.tagName FROM TagStats s WHERE s.totalCount > 0 ORDER BY s.totalCount DESC, s.tagId")
+    List<String> findTopTagNames(Pageable pageable);
+
+    // PlaceTag 에서 모두 사라진 태그는 0 으로
+    @Modifying
+    @Transactional
+    @Query("UPDATE TagStats s SET s.totalCount = 0 WHERE s.totalCount > 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM PlaceTag pt WHERE pt.tagId = s.tagId)")
+    int resetRemovedTags();
+}
@@ -0,0 +1,9 @@
+package com.ktb7.pinpung.repository;
+
+import java.util.Collection;
+
+public interface TagStatsRepositoryCustom {
+
+    // PlaceTag 의 tagCount 합계로 다시 계산해 upsert (행이 없으면 생성)
+    void upsertTotals(Collection<Long> tagIds);
+}
@@ -0,0 +1,33 @@
+package com.ktb7.pinpung.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TagStatsRepositoryCustomImpl implements TagStatsRepositoryCustom {
+
+    // 합산과 저장을 한 문장으로 처리해서 같은 새 태그를 동시에 갱신해도 PK 충돌이 나지 않고,
+    // 먼저 읽은 합계가 나중에 저장되어 최신 합계를 덮어쓰지 않음 (InnoDB 에서 DML 안의 서브쿼리는 잠금 읽기)
+    private static final String UPSERT_SQL =
+            "INSERT INTO TagStats (tagId, tagName, totalCount, updatedAt) " +
+            "SELECT t.id, t.tagName, (SELECT COALESCE(SUM(pt.tagCount), 0) FROM PlaceTag pt WHERE pt.tagId = t.id), NOW() " +
+            "FROM Tag t WHERE t.id = ? " +
+            "ON DUPLICATE KEY UPDATE totalCount = VALUES(totalCount), tagName = VALUES(tagName), updatedAt = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertTotals(Collection<Long> tagIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(tagIds));
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, ids, ids.size(), (ps, tagId) -> ps.setLong(1, tagId));
+    }
+}
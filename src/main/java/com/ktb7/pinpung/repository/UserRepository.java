@@ -1,9 +1,13 @@
 package com.ktb7.pinpung.repository;
 
 import com.ktb7.pinpung.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(Long userId);
     Optional<User> findBySocialId(Long socialId);
     Optional<User> findByUserName(String userName);
+
+    @Query("SELECT u.userId FROM User u WHERE u.userId > :afterId ORDER BY u.userId")
+    List<Long> findUserIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
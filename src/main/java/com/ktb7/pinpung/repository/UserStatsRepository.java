@@ -0,0 +1,33 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long>, UserStatsRepositoryCustom {
+    List<UserStats> findByUserIdIn(Collection<Long> userIds);
+
+    // 카운터 증감은 읽지 않고 UPDATE 한 번으로 (동시 요청에도 누락 없음). 행이 없으면 0 반환
+    @Modifying
+    @Query("UPDATE UserStats s SET s.followerCount = s.followerCount + :delta WHERE s.userId = :userId")
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.followingCount = s.followingCount + :delta WHERE s.userId = :userId")
+    int addFollowingCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.pungCount = s.pungCount + :delta WHERE s.userId = :userId")
+    int addPungCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.reviewCount = s.reviewCount + :delta WHERE s.userId = :userId")
+    int addReviewCount(@Param("userId") Long userId, @Param("delta") long delta);
+}
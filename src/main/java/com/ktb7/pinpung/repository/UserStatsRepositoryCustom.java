@@ -0,0 +1,9 @@
+package com.ktb7.pinpung.repository;
+
+import java.util.Collection;
+
+public interface UserStatsRepositoryCustom {
+
+    // 원본 테이블 COUNT 로 다시 계산해 upsert (행이 없으면 생성)
+    void upsertCounts(Collection<Long> userIds);
+}
@@ -0,0 +1,42 @@
+package com.ktb7.pinpung.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserStatsRepositoryCustomImpl implements UserStatsRepositoryCustom {
+
+    // 계산과 저장을 한 문장으로 처리해서 동시에 행을 만들어도 PK 충돌이 나지 않고,
+    // COUNT 와 저장 사이에 커밋된 증감이 덮어써지지 않음 (InnoDB 에서 DML 안의 서브쿼리는 잠금 읽기)
+    private static final String UPSERT_SQL =
+            "INSERT INTO UserStats (userId, followerCount, followingCount, pungCount, reviewCount, updatedAt) " +
+            "VALUES (?, " +
+            "(SELECT COUNT(*) FROM Follow f WHERE f.following_id = ?), " +
+            "(SELECT COUNT(*) FROM Follow f WHERE f.follower_id = ?), " +
+            "(SELECT COUNT(*) FROM Pung p WHERE p.userId = ?), " +
+            "(SELECT COUNT(*) FROM Review r WHERE r.userId = ?), " +
+            "NOW()) " +
+            "ON DUPLICATE KEY UPDATE followerCount = VALUES(followerCount), followingCount = VALUES(followingCount), " +
+            "pungCount = VALUES(pungCount), reviewCount = VALUES(reviewCount), updatedAt = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertCounts(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, ids, ids.size(), (ps, userId) -> {
+            for (int i = 1; i <= 5; i++) {
+                ps.setLong(i, userId);
+            }
+        });
+    }
+}
@@ -3,15 +3,9 @@ package com.ktb7.pinpung.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktb7.pinpung.dto.AI.*;
 import com.ktb7.pinpung.dto.Place.SimplePlaceDto;
-import com.ktb7.pinpung.entity.Place;
-import com.ktb7.pinpung.entity.Review;
 import com.ktb7.pinpung.exception.common.CustomException;
-import com.ktb7.pinpung.exception.common.ErrorCode;
-import com.ktb7.pinpung.repository.PlaceRepository;
-import com.ktb7.pinpung.repository.ReviewRepository;
-import com.ktb7.pinpung.repository.TagRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -21,8 +15,9 @@ import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+import static com.ktb7.pinpung.exception.common.ErrorCode.GEN_TAGS_REQUEST_FAILED;
 import static com.ktb7.pinpung.exception.common.ErrorCode.RECOMMEND_TAGS_REQUEST_FAILED;
 
 @Service
@@ -30,17 +25,13 @@ import static com.ktb7.pinpung.exception.common.ErrorCode.RECOMMEND_TAGS_REQUEST
 public class AiService {
 
     private final WebClient webClient;
-    private final PlaceRepository placeRepository;
     private final PlaceService placeService;
-    private final TagRepository tagRepository;
-    private final ReviewRepository reviewRepository;
+    private final PlaceCardAssembler placeCardAssembler;
 
-    public AiService(WebClient.Builder webClientBuilder, @Value("${fastapi.server.url}") String fastApiUrl, PlaceRepository placeRepository, PlaceService placeService, TagRepository tagRepository, ReviewRepository reviewRepository) {
-        this.webClient = webClientBuilder.baseUrl(fastApiUrl).build();
-        this.placeRepository = placeRepository;
+    public AiService(@Qualifier("aiServerWebClient") WebClient webClient, PlaceService placeService, PlaceCardAssembler placeCardAssembler) {
+        this.webClient = webClient;
         this.placeService = placeService;
-        this.tagRepository = tagRepository;
-        this.reviewRepository = reviewRepository;
+        this.placeCardAssembler = placeCardAssembler;
     }
 
     public Boolean genTags(Long placeId, String reviewText, String reviewImageUrl, Long userId) {
@@ -65,8 +56,9 @@ public class AiService {
             response = mapper.readValue(rawResponse, GenerateTagsAIResponseDto.class);
 
         } catch (Exception e) {
+            // TagGenerationDispatcher 가 재시도할 수 있도록 실패는 예외로 전달
             log.error("Failed to call AI server", e);
-            response = new GenerateTagsAIResponseDto(false); // 기본값 반환
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, GEN_TAGS_REQUEST_FAILED);
         }
 
         Boolean isGened = response != null && response.getIsGened() != null ? response.getIsGened() : false;
@@ -125,13 +117,17 @@ public class AiService {
         List<String> hashtags = trendingTagsAIResponse.getHashtags();
         List<List<Long>> cafeList = trendingTagsAIResponse.getCafe_list();
 
+        // 여러 태그에 걸쳐 나온 장소도 한 번만 조회
+        Map<Long, SimplePlaceDto> cards = placeCardAssembler.assemble(
+                cafeList.stream().flatMap(List::stream).toList());
+
         // PlacesPerTagDto 리스트 생성
         List<PlacesPerTagDto> placesPerTags = new ArrayList<>();
         for (int i = 0; i < hashtags.size(); i++) {
             String tagName = hashtags.get(i);
             List<Long> placeIdList = cafeList.get(i);
 
-            List<SimplePlaceDto> places = changeFormat2Recommend(new RecommendTagsAIResponseDto(placeIdList));
+            List<SimplePlaceDto> places = placeCardAssembler.toCards(placeIdList, cards);
 
             placesPerTags.add(new PlacesPerTagDto(tagName, places.size(), places));
         }
@@ -140,30 +136,9 @@ public class AiService {
     }
 
     public List<SimplePlaceDto> changeFormat2Recommend(RecommendTagsAIResponseDto recommendTagsAIResponse) {
+        List<Long> placeIdList = recommendTagsAIResponse.getCafe_list();
 
-        List<SimplePlaceDto> places = new ArrayList<>();
-        for (int i = 0; i < recommendTagsAIResponse.getCafe_list().size(); i++) {
-            Long placeId = recommendTagsAIResponse.getCafe_list().get(i);
-            // placeId를 이용해 Place 엔티티 조회 (없을 경우 예외 처리)
-            Place place = placeRepository.findById(placeId)
-                    .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.PLACE_NOT_FOUND));
-
-            // placeId로 가장 최근 리뷰 조회 (리뷰가 없는 경우 Optional.empty())
-            Optional<Review> recentReviewOpt = reviewRepository.findTopByPlaceIdOrderByCreatedAtDesc(placeId);
-
-            // 가장 최근 리뷰에서 이미지가 있을 경우 imageId를 가져오고, 없으면 null 설정
-            Long recentImageId = recentReviewOpt
-                    .map(Review::getImageId)
-                    .orElse(null);
-
-            // placeId로 관련 태그 목록 조회
-            List<String> tagNames = tagRepository.findTagNamesByPlaceId(placeId);
-
-            // SimplePlaceDto 객체 생성 및 추가
-            places.add(new SimplePlaceDto(placeId, place.getPlaceName(), place.getAddress(), tagNames, recentImageId,
-                    place.getX(), place.getY()));
-        }
-
-        return places;
+        // 장소, 태그, 최근 리뷰 이미지를 한 번에 조회 (없는 장소는 예외)
+        return placeCardAssembler.toCards(placeIdList, placeCardAssembler.assemble(placeIdList));
     }
 }
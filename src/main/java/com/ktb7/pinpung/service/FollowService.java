@@ -7,9 +7,12 @@ import com.ktb7.pinpung.exception.common.CustomException;
 import com.ktb7.pinpung.exception.common.ErrorCode;
 import com.ktb7.pinpung.repository.FollowRepository;
 import com.ktb7.pinpung.repository.UserRepository;
+import com.ktb7.pinpung.util.CursorUtils;
 import com.ktb7.pinpung.util.RepositoryHelper;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -24,7 +27,10 @@ public class FollowService {
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
     private final RepositoryHelper repositoryHelper;
+    private final UserStatsService userStatsService;
+    private final FollowerIdCache followerIdCache;
 
+    @Transactional
     public FollowResponseDto followUser(Long userId, FollowRequestDto followRequestDto) {
         Long wantsToFollowId = followRequestDto.getWantsToFollowId();
 
@@ -39,6 +45,8 @@ public class FollowService {
         try {
             // Follow 엔티티 저장
             followRepository.save(follow);
+            userStatsService.addFollow(userId, wantsToFollowId, 1);
+            followerIdCache.onFollow(userId, wantsToFollowId, true);
             log.info("User {} followed User {}", userId, wantsToFollowId);
         } catch (Exception e) {
             log.error("Error saving follow relationship between user {} and user {}", userId, wantsToFollowId, e);
@@ -49,6 +57,7 @@ public class FollowService {
         return new FollowResponseDto(userId, wantsToFollowId);
     }
 
+    @Transactional
     public UnfollowResponseDto unfollowUser(Long userId, UnfollowRequestDto unfollowRequestDto) {
         Long wantsToUnfollowId = unfollowRequestDto.getWantsToUnfollowId();
 
@@ -62,6 +71,8 @@ public class FollowService {
         try {
             // Follow 엔티티 삭제
             followRepository.delete(follow);
+            userStatsService.addFollow(userId, wantsToUnfollowId, -1);
+            followerIdCache.onFollow(userId, wantsToUnfollowId, false);
             log.info("User {} unfollowed User {}", userId, wantsToUnfollowId);
         } catch (Exception e) {
             log.error("Error deleting follow relationship between user {} and user {}", userId, wantsToUnfollowId, e);
@@ -72,27 +83,42 @@ public class FollowService {
         return new UnfollowResponseDto(userId, wantsToUnfollowId);
     }
 
-    public FollowsResponseDto getFollowers(Long userId) {
+    public FollowsResponseDto getFollowers(Long userId, String cursor, int size) {
         // 사용자가 존재하는지 확인
         repositoryHelper.findUserById(userId);
 
-        List<User> followers = followRepository.findFollowersByUserId(userId);
-        List<SimpleUserDto> followerList = followers.stream()
-                .map(follower -> new SimpleUserDto(follower.getUserId(), follower.getUserName()))
-                .collect(Collectors.toList());
+        List<SimpleFollowDto> rows = followRepository.findFollowersPage(userId, beforeId(cursor), PageRequest.of(0, size + 1));
+        long total = userStatsService.getStats(userId).getFollowerCount();
 
-        return new FollowsResponseDto(followerList.size(), followerList);
+        return toResponse(total, rows, size);
     }
 
-    public FollowsResponseDto getFollowings(Long userId) {
+    public FollowsResponseDto getFollowings(Long userId, String cursor, int size) {
         // 사용자가 존재하는지 확인
         repositoryHelper.findUserById(userId);
 
-        List<User> followings = followRepository.findFollowingsByUserId(userId);
-        List<SimpleUserDto> followingList = followings.stream()
-                .map(follower -> new SimpleUserDto(follower.getUserId(), follower.getUserName()))
+        List<SimpleFollowDto> rows = followRepository.findFollowingsPage(userId, beforeId(cursor), PageRequest.of(0, size + 1));
+        long total = userStatsService.getStats(userId).getFollowingCount();
+
+        return toResponse(total, rows, size);
+    }
+
+    // 커서가 없으면 첫 페이지 (가장 최근 팔로우부터)
+    private Long beforeId(String cursor) {
+        Long lastId = CursorUtils.decode(cursor);
+        return lastId == null ? Long.MAX_VALUE : lastId;
+    }
+
+    // size + 1 개를 조회해서 남는 행이 있으면 다음 커서를 내려준다
+    private FollowsResponseDto toResponse(long total, List<SimpleFollowDto> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<SimpleFollowDto> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<SimpleUserDto> follows = page.stream()
+                .map(SimpleFollowDto::toSimpleUserDto)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? CursorUtils.encode(page.get(page.size() - 1).getFollowId()) : null;
 
-        return new FollowsResponseDto(followingList.size(), followingList);
+        return new FollowsResponseDto(Math.toIntExact(total), follows, nextCursor);
     }
 }
@@ -0,0 +1,135 @@
+package com.ktb7.pinpung.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ktb7.pinpung.repository.FollowRepository;
+import com.ktb7.pinpung.util.LongHashSet;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 팔로워 id 집합 캐시 (지도 마커 byFriend 판단용).
+ * 집합은 LongHashSet 으로 저장하고 캐시 크기는 원소 수가 아닌 추정 바이트(max-bytes)로 제한한다.
+ * 캐시된 집합은 읽기 전용으로 다루고, 팔로우/언팔로우가 커밋되면 복사본에 반영해 교체한다.
+ * 다른 인스턴스의 팔로우/언팔로우는 반영되지 않으므로 DB 에서 읽은 뒤 ttl 이 지나면 다시 읽는다 (로컬 반영은 만료 시각을 늦추지 않음).
+ * 사용자별 메모리는 follower.id.cache.entry.bytes 분포와 estimatedBytes 로 확인할 수 있다.
+ */
+@Slf4j
+@Component
+public class FollowerIdCache {
+
+    private final FollowRepository followRepository;
+    private final Cache<Long, LongHashSet> followerIds;
+    private final DistributionSummary entryBytes;
+
+    @Autowired
+    public FollowerIdCache(FollowRepository followRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${follow.follower-id-cache.max-bytes:64MB}") DataSize maxBytes,
+                           @Value("${follow.follower-id-cache.ttl:PT5M}") Duration ttl) {
+        this(followRepository, meterRegistry, maxBytes, ttl, Ticker.systemTicker());
+    }
+
+    // 테스트에서 시간 조절용
+    FollowerIdCache(FollowRepository followRepository, MeterRegistry meterRegistry, DataSize maxBytes, Duration ttl, Ticker ticker) {
+        this.followRepository = followRepository;
+        this.followerIds = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((Long userId, LongHashSet ids) -> (int) Math.min(Integer.MAX_VALUE, ids.estimatedBytes()))
+                .expireAfter(expireAfterLoad(ttl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.entryBytes = DistributionSummary.builder("follower.id.cache.entry.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, followerIds, "followerIdCache");
+        meterRegistry.gauge("follower.id.cache.weight.bytes", followerIds,
+                cache -> cache.policy().eviction().map(eviction -> (double) eviction.weightedSize().orElse(0L)).orElse(0.0));
+    }
+
+    // DB 에서 읽은 시각 기준으로만 만료 (onFollow 로 교체해도 남은 시간 유지)
+    private static Expiry<Long, LongHashSet> expireAfterLoad(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long userId, LongHashSet ids, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Long userId, LongHashSet ids, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Long userId, LongHashSet ids, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    // 반환된 집합은 수정하지 말 것
+    public LongHashSet get(Long userId) {
+        if (userId == null) {
+            return new LongHashSet();
+        }
+        return followerIds.get(userId, this::load);
+    }
+
+    // follower 가 following 을 팔로우/언팔로우, 트랜잭션 커밋 후 following 의 집합에 반영 (캐시에 없으면 무시)
+    public void onFollow(Long followerId, Long followingId, boolean followed) {
+        runAfterCommit(() -> followerIds.asMap().computeIfPresent(followingId, (userId, ids) -> {
+            LongHashSet updated = ids.copy();
+            if (followed) {
+                updated.add(followerId);
+            } else {
+                updated.remove(followerId);
+            }
+            return updated;
+        }));
+    }
+
+    public void evict(Long userId) {
+        followerIds.invalidate(userId);
+    }
+
+    // 캐시에 없으면 0
+    public long estimatedBytes(Long userId) {
+        LongHashSet ids = followerIds.getIfPresent(userId);
+        return ids == null ? 0L : ids.estimatedBytes();
+    }
+
+    private LongHashSet load(Long userId) {
+        LongHashSet ids = LongHashSet.copyOf(followRepository.findFollowerIdsByUserId(userId));
+        entryBytes.record(ids.estimatedBytes());
+        log.debug("팔로워 id 캐시 적재 - userId: {}, followers: {}, bytes: {}", userId, ids.size(), ids.estimatedBytes());
+        return ids;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Image;
+import com.ktb7.pinpung.repository.ImageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 축소본이 없는 이미지를 다시 등록.
+ * 대기열이 차서 버려진 작업, 생성에 실패한 이미지, 축소본 도입 전에 올라온 이미지가 대상이다.
+ * imageId 순으로 실행마다 batch-size 개씩 진행하고, 끝까지 가면 처음부터 다시 본다 (실패한 이미지는 한 바퀴에 한 번만 재시도).
+ * 지원하지 않는 형식이거나 max-failures 번 실패한 이미지는 더 이상 등록하지 않는다.
+ */
+@Slf4j
+@Component
+public class ImageDerivativeReconciler {
+
+    private final ImageRepository imageRepository;
+    private final ImageDerivativeService imageDerivativeService;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int batchSize;
+    // 커밋 후 등록된 작업이 아직 처리 중일 수 있는 최근 이미지는 건너뜀
+    private final Duration grace;
+    private final int maxFailures;
+
+    private long afterId = 0L;
+
+    public ImageDerivativeReconciler(ImageRepository imageRepository,
+                                     ImageDerivativeService imageDerivativeService,
+                                     MeterRegistry meterRegistry,
+                                     Clock clock,
+                                     @Value("${image.derivative.backfill-batch-size:100}") int batchSize,
+                                     @Value("${image.derivative.backfill-grace:PT10M}") Duration grace,
+                                     @Value("${image.derivative.backfill-max-failures:3}") int maxFailures) {
+        this.imageRepository = imageRepository;
+        this.imageDerivativeService = imageDerivativeService;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.grace = grace;
+        this.maxFailures = maxFailures;
+    }
+
+    @Scheduled(initialDelayString = "${image.derivative.backfill-initial-delay:PT5M}",
+            fixedDelayString = "${image.derivative.backfill-interval:PT5M}")
+    public synchronized void reconcile() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(grace);
+        List<Image> images = imageRepository.findWithoutDerivatives(afterId, before, maxFailures, PageRequest.of(0, batchSize));
+
+        int submitted = 0;
+        for (Image image : images) {
+            if (!imageDerivativeService.submit(image)) {
+                // 대기열이 찼으면 다음 실행에서 이 이미지부터 다시
+                break;
+            }
+            afterId = image.getImageId();
+            submitted++;
+        }
+        if (submitted == images.size() && images.size() < batchSize) {
+            afterId = 0L;
+        }
+
+        meterRegistry.counter("image.derivative.backfill").increment(submitted);
+        log.info("이미지 축소본 재등록: {}개 중 {}개", images.size(), submitted);
+    }
+}
@@ -0,0 +1,191 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Image;
+import com.ktb7.pinpung.repository.ImageRepository;
+import com.ktb7.pinpung.repository.PlaceSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드된 이미지로 썸네일/지도 마커용 축소본을 만든다.
+ * 화면에 보이는 이미지(펑은 텍스트가 합성된 uploaded-images, 리뷰는 원본)를 기준으로 하고,
+ * 업로드 트랜잭션이 커밋된 뒤 imageDerivativeExecutor 에서 S3 에서 내려받아 처리하므로 업로드 응답 시간에는 영향이 없다.
+ * 대기열이 차서 등록하지 못했거나 실패한 이미지는 ImageDerivativeReconciler 가 다시 등록한다.
+ * JDK ImageIO 에는 WebP 인코더가 없어 축소본은 JPEG 로 저장한다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    static final String THUMBNAIL_PREFIX = "thumbnails/";
+    static final String MARKER_PREFIX = "markers/";
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private final S3Service s3Service;
+    private final ImageRepository imageRepository;
+    private final PlaceSummaryRepository placeSummaryRepository;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final int thumbnailSize;
+    private final int markerSize;
+    private final float quality;
+
+    public ImageDerivativeService(S3Service s3Service,
+                                  ImageRepository imageRepository,
+                                  PlaceSummaryRepository placeSummaryRepository,
+                                  @Qualifier("imageDerivativeExecutor") ThreadPoolTaskExecutor executor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${image.derivative.thumbnail-size:480}") int thumbnailSize,
+                                  @Value("${image.derivative.marker-size:128}") int markerSize,
+                                  @Value("${image.derivative.quality:0.8}") float quality) {
+        this.s3Service = s3Service;
+        this.imageRepository = imageRepository;
+        this.placeSummaryRepository = placeSummaryRepository;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.thumbnailSize = thumbnailSize;
+        this.markerSize = markerSize;
+        this.quality = quality;
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 아니면 바로 작업 등록
+    public void generateAfterCommit(Image image) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(image);
+                }
+            });
+            return;
+        }
+        submit(image);
+    }
+
+    // 대기열이 차서 등록하지 못하면 false (축소본이 없는 동안 클라이언트는 원본을 사용)
+    boolean submit(Image image) {
+        Long imageId = image.getImageId();
+        String sourceKey = sourceKey(image);
+        try {
+            executor.execute(() -> generate(imageId, sourceKey));
+            return true;
+        } catch (TaskRejectedException e) {
+            meterRegistry.counter("image.derivative", "result", "rejected").increment();
+            log.warn("이미지 축소본 작업 대기열이 가득 참, imageId: {}", imageId);
+            return false;
+        }
+    }
+
+    // 화면에 보이는 이미지 (텍스트 합성본이 있으면 합성본)
+    static String sourceKey(Image image) {
+        return image.getImageTextKey() != null ? image.getImageTextKey() : image.getPureImageKey();
+    }
+
+    // imageId -> thumbnailKey (축소본이 없는 이미지는 빠짐)
+    public Map<Long, String> findThumbnailKeys(Collection<Long> imageIds) {
+        Map<Long, String> thumbnailKeys = new HashMap<>();
+        if (imageIds.isEmpty()) {
+            return thumbnailKeys;
+        }
+        for (Object[] row : imageRepository.findThumbnailKeys(imageIds)) {
+            thumbnailKeys.put((Long) row[0], (String) row[1]);
+        }
+        return thumbnailKeys;
+    }
+
+    void generate(Long imageId, String sourceKey) {
+        long start = System.nanoTime();
+        String result = "failed";
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(s3Service.download(sourceKey)));
+            if (source == null) {
+                result = "unsupported";
+                log.warn("축소본을 만들 수 없는 이미지 형식, imageId: {}", imageId);
+                recordFailure(imageId, true);
+                return;
+            }
+
+            String thumbnailKey = THUMBNAIL_PREFIX + imageId;
+            String markerKey = MARKER_PREFIX + imageId;
+            s3Service.upload(thumbnailKey, encodeJpeg(resize(source, thumbnailSize), quality), CONTENT_TYPE);
+            s3Service.upload(markerKey, encodeJpeg(resize(source, markerSize), quality), CONTENT_TYPE);
+            imageRepository.updateDerivativeKeys(imageId, thumbnailKey, markerKey);
+            // 이미 대표 펑으로 집계된 장소는 여기서 맞춘다 (이후 집계는 Image 에서 읽음)
+            placeSummaryRepository.updateRepresentativeDerivativeKeys(imageId, thumbnailKey, markerKey);
+
+            result = "done";
+            log.info("이미지 축소본 생성 완료, imageId: {}", imageId);
+        } catch (Exception e) {
+            log.error("이미지 축소본 생성 실패, imageId: {}", imageId, e);
+            recordFailure(imageId, false);
+        } finally {
+            meterRegistry.timer("image.derivative", "result", result).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 재등록 대상에서 빼기 위해 실패를 기록 (기록 실패는 다음 재시도 때 다시 기록)
+    private void recordFailure(Long imageId, boolean unsupported) {
+        try {
+            imageRepository.recordDerivativeFailure(imageId, unsupported);
+        } catch (Exception e) {
+            log.error("이미지 축소본 실패 기록 실패, imageId: {}", imageId, e);
+        }
+    }
+
+    // 긴 변이 maxSize 가 되도록 비율 유지 축소 (작은 이미지는 확대하지 않음), 투명 영역은 흰 배경
+    static BufferedImage resize(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
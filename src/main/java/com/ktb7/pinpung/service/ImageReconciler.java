@@ -0,0 +1,72 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Image;
+import com.ktb7.pinpung.repository.ImageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Image 기록과 S3 객체가 맞는지 요청 경로 밖에서 확인.
+ * 실행마다 확인한 지 가장 오래된 이미지 batch-size 개를 HEAD 로 확인하고, 없는 객체는 missing 으로 표시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageReconciler {
+
+    private final ImageRepository imageRepository;
+    private final S3Service s3Service;
+    private final ImageStatusService imageStatusService;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Value("${image.reconcile.batch-size:200}")
+    private int batchSize;
+
+    @Value("${image.reconcile.reverify-after:P7D}")
+    private Duration reverifyAfter;
+
+    @Scheduled(initialDelayString = "${image.reconcile.initial-delay:PT5M}",
+            fixedDelayString = "${image.reconcile.interval:PT10M}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Image> images = imageRepository.findToVerify(now.minus(reverifyAfter), PageRequest.of(0, batchSize));
+
+        int missing = 0;
+        for (Image image : images) {
+            try {
+                boolean exists = Stream.of(image.getImageTextKey(), image.getPureImageKey())
+                        .filter(key -> key != null)
+                        .allMatch(s3Service::doesObjectExist);
+                // 키가 하나도 없으면 업로드가 끝나지 않은 행이므로 누락으로 본다
+                boolean hasKey = image.getImageTextKey() != null || image.getPureImageKey() != null;
+                boolean isMissing = !hasKey || !exists;
+
+                imageRepository.updateVerification(image.getImageId(), now, isMissing);
+                if (isMissing) {
+                    missing++;
+                    imageStatusService.evict(image.getImageId());
+                    log.warn("S3 에 이미지가 없습니다. imageId: {}", image.getImageId());
+                }
+            } catch (Exception e) {
+                // 다음 실행에서 다시 확인
+                log.error("이미지 확인 실패, imageId: {}", image.getImageId(), e);
+            }
+        }
+
+        meterRegistry.counter("image.reconcile", "result", "checked").increment(images.size());
+        meterRegistry.counter("image.reconcile", "result", "missing").increment(missing);
+        log.info("이미지 확인 완료: {}개, 누락 {}개", images.size(), missing);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ktb7.pinpung.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb7.pinpung.entity.Image;
+import com.ktb7.pinpung.repository.ImageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 업로드 상태.
+ * 업로드가 끝나면 Image 행에 메타데이터를 남기고, 조회 시에는 S3 HEAD 대신 이 기록을 본다.
+ * 업로드된 이미지는 바뀌지 않으므로 확인된 imageId 를 크기 제한 캐시에 둔다 (ImageReconciler 가 누락을 찾으면 제거).
+ */
+@Slf4j
+@Service
+public class ImageStatusService {
+
+    private final ImageRepository imageRepository;
+    private final Clock clock;
+    private final Cache<Long, Boolean> availableImageIds;
+
+    public ImageStatusService(ImageRepository imageRepository,
+                              Clock clock,
+                              MeterRegistry meterRegistry,
+                              @Value("${image.status-cache.max-size:50000}") long maxSize) {
+        this.imageRepository = imageRepository;
+        this.clock = clock;
+        this.availableImageIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, availableImageIds, "imageStatusCache");
+    }
+
+    // S3 업로드가 끝난 뒤 호출 (원본 기준)
+    public void markUploaded(Image image, MultipartFile original) {
+        image.setContentType(original.getContentType());
+        image.setSizeBytes(original.getSize());
+        image.setUploadedAt(LocalDateTime.now(clock));
+        image.setMissing(false);
+    }
+
+    public boolean isAvailable(Long imageId) {
+        if (imageId == null) {
+            return false;
+        }
+        if (availableImageIds.getIfPresent(imageId) != null) {
+            return true;
+        }
+
+        boolean available = imageRepository.findById(imageId)
+                .map(ImageStatusService::isUploaded)
+                .orElse(false);
+        // 업로드 전/누락 상태는 바뀔 수 있어 캐시하지 않음
+        if (available) {
+            availableImageIds.put(imageId, Boolean.TRUE);
+        }
+        return available;
+    }
+
+    public void evict(Long imageId) {
+        availableImageIds.invalidate(imageId);
+    }
+
+    // uploadedAt 이 없는 기존 행은 키가 저장되어 있으면 업로드된 것으로 본다 (키는 업로드 성공 후에만 저장됨)
+    static boolean isUploaded(Image image) {
+        if (Boolean.TRUE.equals(image.getMissing())) {
+            return false;
+        }
+        return image.getUploadedAt() != null || image.getImageTextKey() != null || image.getPureImageKey() != null;
+    }
+}
@@ -0,0 +1,161 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.exception.common.CustomException;
+import com.ktb7.pinpung.exception.common.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카카오 로컬 키워드 검색(카페 카테고리) 호출.
+ * 병렬 모드에서는 첫 페이지 응답의 meta(is_end, pageable_count)로 남은 페이지 수를 정한 뒤
+ * 나머지 페이지를 max-fan-out 만큼 동시에 요청하고, 결과는 페이지 순서대로 합친다.
+ * 타일 검색처럼 호출 수가 많은 경우 maxPages 로 페이지 수를 제한하고, 실제로 보낸 요청 수를 함께 돌려준다.
+ */
+@Slf4j
+@Component
+public class KakaoLocalClient {
+
+    private static final String KAKAO_LOCAL_API_URL = "/v2/local/search/keyword.json";
+    private static final int PAGE_SIZE = 15;
+    public static final int MAX_PAGE = 3;
+
+    private final WebClient webClient;
+    private final String clientId;
+    private final boolean parallelFetch;
+    private final int maxFanOut;
+
+    public KakaoLocalClient(@Qualifier("kakaoLocalWebClient") WebClient webClient,
+                            @Value("${spring.security.oauth2.client.registration.kakao.client-id}") String clientId,
+                            @Value("${kakao.local.parallel-fetch:true}") boolean parallelFetch,
+                            @Value("${kakao.local.max-fan-out:2}") int maxFanOut) {
+        this.webClient = webClient;
+        this.clientId = clientId;
+        this.parallelFetch = parallelFetch;
+        this.maxFanOut = Math.max(1, maxFanOut);
+    }
+
+    public List<Map<String, Object>> categorySearch(String keyword, String swLng, String swLat, String neLng, String neLat, String x, String y, String sort) {
+        return categorySearch(keyword, swLng, swLat, neLng, neLat, x, y, sort, MAX_PAGE).documents();
+    }
+
+    public SearchResult categorySearch(String keyword, String swLng, String swLat, String neLng, String neLat, String x, String y, String sort, int maxPages) {
+        int pages = Math.max(1, Math.min(MAX_PAGE, maxPages));
+        if (parallelFetch) {
+            return fetchParallel(keyword, swLng, swLat, neLng, neLat, x, y, sort, pages);
+        }
+        return fetchSerial(keyword, swLng, swLat, neLng, neLat, x, y, sort, pages);
+    }
+
+    SearchResult fetchSerial(String keyword, String swLng, String swLat, String neLng, String neLat, String x, String y, String sort, int maxPages) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        int page = 1;
+
+        while (page <= maxPages) {
+            List<Map<String, Object>> documents = extractDocuments(
+                    fetchPage(keyword, swLng, swLat, neLng, neLat, x, y, sort, page).block());
+            result.addAll(documents);
+
+            if (documents.size() < PAGE_SIZE) {
+                break;
+            }
+            page++;
+        }
+        return new SearchResult(result, Math.min(page, maxPages));
+    }
+
+    SearchResult fetchParallel(String keyword, String swLng, String swLat, String neLng, String neLat, String x, String y, String sort, int maxPages) {
+        // 첫 페이지로 전체 페이지 수 확인
+        Map<String, Object> firstResponse = fetchPage(keyword, swLng, swLat, neLng, neLat, x, y, sort, 1).block();
+        List<Map<String, Object>> firstDocuments = extractDocuments(firstResponse);
+        List<Map<String, Object>> result = new ArrayList<>(firstDocuments);
+
+        int lastPage = Math.min(maxPages, resolveLastPage(firstResponse, firstDocuments.size()));
+        if (lastPage <= 1) {
+            return new SearchResult(result, 1);
+        }
+
+        // 나머지 페이지 동시 요청, flatMapSequential 로 페이지 순서 유지
+        List<List<Map<String, Object>>> restPages = Flux.range(2, lastPage - 1)
+                .flatMapSequential(page -> fetchPage(keyword, swLng, swLat, neLng, neLat, x, y, sort, page)
+                        .map(this::extractDocuments), maxFanOut)
+                .collectList()
+                .block();
+
+        if (restPages != null) {
+            restPages.forEach(result::addAll);
+        }
+        return new SearchResult(result, lastPage);
+    }
+
+    private int resolveLastPage(Map<String, Object> response, int firstPageSize) {
+        if (firstPageSize < PAGE_SIZE) {
+            return 1;
+        }
+
+        Map<String, Object> meta = (Map<String, Object>) response.get("meta");
+        if (meta == null) {
+            return MAX_PAGE;
+        }
+        if (Boolean.TRUE.equals(meta.get("is_end"))) {
+            return 1;
+        }
+
+        Object pageableCount = meta.get("pageable_count");
+        if (pageableCount instanceof Number count) {
+            int pages = (int) Math.ceil(count.doubleValue() / PAGE_SIZE);
+            return Math.max(1, Math.min(MAX_PAGE, pages));
+        }
+        return MAX_PAGE;
+    }
+
+    private Mono<Map<String, Object>> fetchPage(String keyword, String swLng, String swLat, String neLng, String neLat, String x, String y, String sort, int page) {
+        StringBuilder requestUrl = new StringBuilder(KAKAO_LOCAL_API_URL)
+                .append("?query=").append(keyword)
+                .append("&category_group_code=CE7")
+                .append("&page=").append(page)
+                .append("&size=").append(PAGE_SIZE);
+
+        if (swLng != null && swLat != null && neLng != null && neLat != null) {
+            requestUrl.append("&rect=").append(swLng).append(",").append(swLat).append(",").append(neLng).append(",").append(neLat);
+        }
+
+        if (x != null && y != null) {
+            requestUrl.append("&x=").append(x).append("&y=").append(y).append("&sort=").append(sort);
+        }
+
+        return webClient.get()
+                .uri(requestUrl.toString())
+                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + clientId)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
+                    log.error("카테고리 검색 API 호출 실패: {}", clientResponse.statusCode());
+                    return Mono.error(new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.API_CALL_FAILED, "카테고리 검색 API 호출 실패"));
+                })
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {});
+    }
+
+    private List<Map<String, Object>> extractDocuments(Map<String, Object> response) {
+        List<Map<String, Object>> documents = response == null ? null : (List<Map<String, Object>>) response.get("documents");
+        if (documents == null) {
+            log.error("카테고리 검색 API 응답에 문서가 없습니다.");
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.API_CALL_FAILED, "카테고리 검색 API 응답에 문서가 없습니다.");
+        }
+        return documents;
+    }
+
+    // requests: 카카오에 실제로 보낸 페이지 요청 수
+    public record SearchResult(List<Map<String, Object>> documents, int requests) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.ktb7.pinpung.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb7.pinpung.entity.LocationKeywordDecision;
+import com.ktb7.pinpung.repository.LocationKeywordDecisionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 키워드 -> 위치 정보 포함 여부(GPT 판단 결과) 캐시.
+ * 메모리 LRU -> DB(LocationKeywordDecision) -> GPT 순으로 조회하고,
+ * 같은 키워드가 동시에 들어오면 GPT 호출 하나를 공유한다(single-flight).
+ */
+@Slf4j
+@Component
+public class LocationDecisionCache {
+
+    private final Cache<String, Boolean> cache;
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final LocationKeywordDecisionRepository decisionRepository;
+    private final MeterRegistry meterRegistry;
+
+    public LocationDecisionCache(LocationKeywordDecisionRepository decisionRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${search.location-cache.max-size:10000}") long maxSize) {
+        this.decisionRepository = decisionRepository;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "locationDecisionCache");
+    }
+
+    /**
+     * 캐시된 판단이 있으면 반환하고, 없으면 decider(GPT)로 판단해 메모리/DB 에 저장한다.
+     * decider 는 정규화된 키워드로 호출되며, null 을 반환하면(판단 보류) 저장하지 않고 false 로 처리한다.
+     */
+    public boolean get(String keyword, Function<String, Boolean> decider) {
+        String key = normalize(keyword);
+
+        Boolean cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            // 같은 키워드를 먼저 요청한 스레드의 결과를 기다림
+            meterRegistry.counter("search.location.decision", "source", "shared").increment();
+            return join(existing);
+        }
+
+        try {
+            future.complete(load(key, decider));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, future);
+        }
+        return join(future);
+    }
+
+    private boolean load(String key, Function<String, Boolean> decider) {
+        Boolean stored = decisionRepository.findByKeyword(key)
+                .map(LocationKeywordDecision::getHasLocation)
+                .orElse(null);
+        if (stored != null) {
+            meterRegistry.counter("search.location.decision", "source", "db").increment();
+            cache.put(key, stored);
+            return stored;
+        }
+
+        Boolean decided = decider.apply(key);
+        if (decided == null) {
+            // 다음 요청에서 다시 판단
+            meterRegistry.counter("search.location.decision", "source", "undecided").increment();
+            return false;
+        }
+        meterRegistry.counter("search.location.decision", "source", "gpt").increment();
+        cache.put(key, decided);
+        save(key, decided);
+        return decided;
+    }
+
+    private void save(String key, boolean hasLocation) {
+        LocationKeywordDecision decision = new LocationKeywordDecision();
+        decision.setKeyword(key);
+        decision.setHasLocation(hasLocation);
+        try {
+            decisionRepository.save(decision);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 경우
+            log.info("이미 저장된 위치 키워드 판단: {}", key);
+        }
+    }
+
+    private static boolean join(CompletableFuture<Boolean> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 전각/반각, 분해된 자모(NFKC 로 조합), 앞뒤/중복 공백, 대소문자 차이를 같은 키워드로 취급
+    static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFKC);
+        return normalized.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
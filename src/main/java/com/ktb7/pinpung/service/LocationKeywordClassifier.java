@@ -0,0 +1,175 @@
+package com.ktb7.pinpung.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 키워드에 위치 정보가 있는지 로컬 규칙으로 먼저 판단한다.
+ * 1. 지명 사전(trie): 토큰이 지명으로 시작하고 나머지가 없거나 위치 접미사/일반 단어면 LOCATION
+ *    (동/구/시/군/읍/면/로/길 접미사는 어간이 사전에 있을 때만 위치로 봄, 물냉면/놀이기구 같은 일반 명사 오탐 방지)
+ * 2. 접미사 규칙: 두 글자 이상 어간 + "역" 이면 LOCATION
+ * 3. 모든 토큰이 카페 관련 일반 단어/브랜드면 NOT_LOCATION
+ * 그 외는 AMBIGUOUS 로 두고 GPT 에 맡긴다.
+ */
+@Slf4j
+@Component
+public class LocationKeywordClassifier {
+
+    public enum Result {
+        LOCATION, NOT_LOCATION, AMBIGUOUS
+    }
+
+    private static final String GAZETTEER_PATH = "location/gazetteer.txt";
+
+    // 지명 뒤에 붙어도 위치로 보는 접미사
+    private static final Set<String> LOCATION_SUFFIXES = Set.of(
+            "역", "동", "구", "시", "군", "도", "읍", "면", "로", "길", "점", "입구", "사거리", "역점", "근처", "쪽");
+
+    // 위치 정보가 아닌 카페 관련 일반 단어와 브랜드
+    private static final Set<String> GENERIC_WORDS = Set.of(
+            "카페", "커피", "커피숍", "디저트", "베이커리", "빵", "빵집", "브런치", "케이크", "케익", "라떼", "아메리카노",
+            "에스프레소", "말차", "티", "차", "쿠키", "마카롱", "크로플", "와플", "빙수", "스콘", "도넛", "샌드위치",
+            "분위기", "조용한", "감성", "예쁜", "넓은", "대형", "루프탑", "테라스", "뷰", "오션뷰", "애견", "애견동반",
+            "스터디", "공부", "작업", "노트북", "콘센트", "24시", "24시간", "심야", "맛집", "추천", "인기", "신상", "데이트",
+            "주차", "주차가능", "야외", "키즈", "북카페", "보드게임", "로스터리", "핸드드립", "주변", "근처", "가까운",
+            "스타벅스", "투썸", "투썸플레이스", "이디야", "메가커피", "메가", "빽다방", "컴포즈", "컴포즈커피", "할리스",
+            "폴바셋", "블루보틀", "커피빈", "엔제리너스", "파스쿠찌", "탐앤탐스", "더벤티", "매머드", "공차",
+            "테라로사", "노티드", "런던베이글", "카페베네", "드롭탑");
+
+    private final TrieNode root = new TrieNode();
+    private final MeterRegistry meterRegistry;
+
+    public LocationKeywordClassifier(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        int count = loadGazetteer();
+        log.info("위치 키워드 사전 로드: {}개", count);
+    }
+
+    public Result classify(String keyword) {
+        Result result = doClassify(keyword);
+        meterRegistry.counter("search.location.classifier", "result", result.name()).increment();
+        return result;
+    }
+
+    private Result doClassify(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return Result.NOT_LOCATION;
+        }
+
+        String[] tokens = keyword.trim().toLowerCase().split("\\s+");
+        boolean allGeneric = true;
+        boolean ambiguous = false;
+
+        for (String token : tokens) {
+            Result tokenResult = classifyToken(token);
+            if (tokenResult == Result.LOCATION) {
+                return Result.LOCATION;
+            }
+            if (tokenResult == Result.AMBIGUOUS) {
+                ambiguous = true;
+            }
+            if (!GENERIC_WORDS.contains(token)) {
+                allGeneric = false;
+            }
+        }
+
+        if (allGeneric && !ambiguous) {
+            return Result.NOT_LOCATION;
+        }
+        return Result.AMBIGUOUS;
+    }
+
+    private Result classifyToken(String token) {
+        if (GENERIC_WORDS.contains(token)) {
+            return Result.NOT_LOCATION;
+        }
+
+        // 1. 지명으로 시작하는지
+        int matchEnd = longestMatch(token);
+        if (matchEnd > 0) {
+            String rest = token.substring(matchEnd);
+            if (rest.isEmpty() || LOCATION_SUFFIXES.contains(rest) || GENERIC_WORDS.contains(rest)
+                    || startsWithSuffix(rest)) {
+                return Result.LOCATION;
+            }
+            return Result.AMBIGUOUS;
+        }
+
+        // 2. 접미사 규칙 (한 글자 어간은 번역/지역 같은 일반 명사가 대부분이라 제외)
+        if (token.endsWith("역") && token.length() >= 3 && isHangul(token)) {
+            return Result.LOCATION;
+        }
+
+        // 사전에 없는 어간 + 동/구/면/길 등(물냉면, 놀이기구, 망원동...), 브랜드+지명 붙여쓰기(ex. 블루보틀성수), 카페 이름 등은 GPT 판단
+        return Result.AMBIGUOUS;
+    }
+
+    private boolean startsWithSuffix(String rest) {
+        for (String suffix : LOCATION_SUFFIXES) {
+            if (rest.startsWith(suffix) && GENERIC_WORDS.contains(rest.substring(suffix.length()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // token 앞부분과 일치하는 가장 긴 지명의 끝 위치, 없으면 -1
+    private int longestMatch(String token) {
+        TrieNode node = root;
+        int end = -1;
+        for (int i = 0; i < token.length(); i++) {
+            node = node.children.get(token.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.terminal) {
+                end = i + 1;
+            }
+        }
+        return end;
+    }
+
+    private static boolean isHangul(String token) {
+        return token.chars().allMatch(c -> c >= '가' && c <= '힣');
+    }
+
+    private int loadGazetteer() {
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(GAZETTEER_PATH).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String name = line.trim().toLowerCase();
+                // 한 글자 지명은 오탐이 많아 제외
+                if (name.isEmpty() || name.startsWith("#") || name.length() < 2) {
+                    continue;
+                }
+                TrieNode node = root;
+                for (char c : name.toCharArray()) {
+                    node = node.children.computeIfAbsent(c, key -> new TrieNode());
+                }
+                node.terminal = true;
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("위치 키워드 사전 로드 실패: " + GAZETTEER_PATH, e);
+        }
+        return count;
+    }
+
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private boolean terminal;
+    }
+}
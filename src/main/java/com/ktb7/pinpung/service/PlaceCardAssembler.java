@@ -0,0 +1,59 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.dto.Place.SimplePlaceDto;
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.PlaceSummary;
+import com.ktb7.pinpung.exception.common.CustomException;
+import com.ktb7.pinpung.exception.common.ErrorCode;
+import com.ktb7.pinpung.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 카드(SimplePlaceDto) 일괄 생성.
+ * 중복을 제거한 placeId 전체에 대해 장소, 장소 집계(태그, 최근 리뷰 이미지)를 각각 IN 쿼리 한 번으로 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceCardAssembler {
+
+    private final PlaceRepository placeRepository;
+    private final PlaceSummaryService placeSummaryService;
+
+    // placeId -> 카드. 존재하지 않는 장소가 있으면 PLACE_NOT_FOUND
+    public Map<Long, SimplePlaceDto> assemble(Collection<Long> placeIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(placeIds);
+        if (distinctIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Place> placeMap = placeRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Place::getPlaceId, Function.identity()));
+        Map<Long, PlaceSummary> summaryMap = placeSummaryService.getSummaries(distinctIds);
+
+        Map<Long, SimplePlaceDto> cards = new HashMap<>();
+        for (Long placeId : distinctIds) {
+            Place place = placeMap.get(placeId);
+            if (place == null) {
+                throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.PLACE_NOT_FOUND);
+            }
+
+            PlaceSummary summary = summaryMap.getOrDefault(placeId, PlaceSummary.empty(placeId));
+            cards.put(placeId, new SimplePlaceDto(placeId, place.getPlaceName(), place.getAddress(), summary.getTags(),
+                    summary.getLatestReviewImageId(), place.getX(), place.getY()));
+        }
+        return cards;
+    }
+
+    // placeIds 순서대로 카드 목록
+    public List<SimplePlaceDto> toCards(List<Long> placeIds, Map<Long, SimplePlaceDto> cards) {
+        return placeIds.stream().map(cards::get).collect(Collectors.toList());
+    }
+}
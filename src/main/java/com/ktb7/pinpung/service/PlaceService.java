@@ -6,22 +6,23 @@ import com.ktb7.pinpung.dto.Pung.PungDto;
 import com.ktb7.pinpung.dto.Review.ReviewDto;
 import com.ktb7.pinpung.dto.Review.ReviewsDto;
 import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.PlaceSummary;
 import com.ktb7.pinpung.entity.Pung;
 import com.ktb7.pinpung.entity.Review;
 import com.ktb7.pinpung.entity.User;
 import com.ktb7.pinpung.exception.common.CustomException;
 import com.ktb7.pinpung.exception.common.ErrorCode;
 import com.ktb7.pinpung.repository.*;
+import com.ktb7.pinpung.util.LongHashSet;
 import com.ktb7.pinpung.util.RepositoryHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpHeaders;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -40,111 +41,213 @@ public class PlaceService {
     private final TagRepository tagRepository;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
-    private final FollowRepository followRepository;
+    private final FollowerIdCache followerIdCache;
 
-    private static final String KAKAO_LOCAL_API_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
-    private final S3Service s3Service;
+    private final ImageStatusService imageStatusService;
+    private final ImageDerivativeService imageDerivativeService;
     private final RepositoryHelper repositoryHelper;
+    private final KakaoLocalClient kakaoLocalClient;
+    private final PlaceTileCache placeTileCache;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceSummaryService placeSummaryService;
 
-    @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
-    private String clientId;
+    public List<Long> categorySearch(String keyword, String swLng, String swLat, String neLng, String neLat, String x, String y, String sort) {
+        // 카카오 검색 결과(페이지 순서 유지)
+        return toPlaceIds(kakaoLocalClient.categorySearch(keyword, swLng, swLat, neLng, neLat, x, y, sort));
+    }
 
-    private final WebClient webClient = WebClient.builder().build();
+    // 카카오 문서들을 upsert 하고 문서 순서대로 placeId 반환
+    private List<Long> toPlaceIds(List<Map<String, Object>> documents) {
+        Map<String, Long> placeIdByKakaoId = upsertPlaces(documents);
 
-    public List<Long> categorySearch(String keyword, String swLng, String swLat, String neLng, String neLat, String x, String y, String sort) {
-        List<Long> placeIds = new ArrayList<>();
-        int page = 1;
-        int size = 15;
-        int maxPage = 3;
-
-        while (page <= maxPage) {
-            StringBuilder requestUrl = new StringBuilder(KAKAO_LOCAL_API_URL)
-                    .append("?query=").append(keyword)
-                    .append("&category_group_code=CE7")
-                    .append("&page=").append(page)
-                    .append("&size=").append(size);
-
-            if (swLng != null && swLat != null && neLng != null && neLat != null) {
-                requestUrl.append("&rect=").append(swLng).append(",").append(swLat).append(",").append(neLng).append(",").append(neLat);
-            }
+        return documents.stream()
+                .map(document -> placeIdByKakaoId.get((String) document.get("id")))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-            if (x != null && y != null) {
-                requestUrl.append("&x=").append(x).append("&y=").append(y).append("&sort=").append(sort);
+    /**
+     * /places/nearby 용 카페 검색.
+     * 저장된 장소의 공간 인덱스(적재 전이면 DB 범위 검색)로 먼저 찾고, 결과가 min-places 보다 적은 지역만 카카오로 검색한다.
+     */
+    public List<Long> nearbyCafeSearch(String swLng, String swLat, String neLng, String neLat) {
+        Double west = PlaceTileCache.parse(swLng);
+        Double south = PlaceTileCache.parse(swLat);
+        Double east = PlaceTileCache.parse(neLng);
+        Double north = PlaceTileCache.parse(neLat);
+
+        if (west != null && south != null && east != null && north != null) {
+            List<Long> placeIds = placeSpatialIndex.isLoaded()
+                    ? placeSpatialIndex.search(west, south, east, north)
+                    : findIdsInBoundingBox(west, south, east, north);
+
+            if (placeIds.size() >= placeSpatialIndex.getMinPlaces()) {
+                log.info("nearby 로컬 검색 결과 사용: {}개", placeIds.size());
+                return placeIds;
             }
+        }
 
-            Map<String, Object> response = webClient.get()
-                    .uri(requestUrl.toString())
-                    .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + clientId)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(), clientResponse -> {
-                        log.error("카테고리 검색 API 호출 실패: {}", clientResponse.statusCode());
-                        return Mono.error(new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.API_CALL_FAILED, "카테고리 검색 API 호출 실패"));
-                    })
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-
-            List<Map<String, Object>> documents = (List<Map<String, Object>>) response.get("documents");
-            if (documents == null) {
-                log.error("카테고리 검색 API 응답에 문서가 없습니다.");
-                throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.API_CALL_FAILED, "카테고리 검색 API 응답에 문서가 없습니다.");
-            }
+        return cachedCategorySearch("카페", swLng, swLat, neLng, neLat, null, null, "accuracy");
+    }
+
+    // 공간 인덱스 적재 전 DB 범위 검색 (중심에서 가까운 순 최대 45개)
+    private List<Long> findIdsInBoundingBox(double west, double south, double east, double north) {
+        double centerLng = (west + east) / 2;
+        double centerLat = (south + north) / 2;
+        return placeRepository.findIdsInBoundingBox(west, south, east, north,
+                centerLng, centerLat, Math.cos(Math.toRadians(centerLat)), PageRequest.of(0, 45));
+    }
+
+    /**
+     * 지도 뷰포트 검색용. 사각형을 타일로 스냅해 캐시된 타일은 그대로 쓰고 비어 있는 타일만 카카오에 요청한다.
+     * 사각형이 없거나 너무 넓으면 기존 검색으로, 빈 타일이 max-missing-tiles 개를 넘으면 뷰포트 한 번 검색으로 처리.
+     */
+    public List<Long> cachedCategorySearch(String keyword, String swLng, String swLat, String neLng, String neLat, String x, String y, String sort) {
+        List<PlaceTileCache.Tile> tiles = placeTileCache.coveringTiles(swLng, swLat, neLng, neLat);
+        if (tiles.isEmpty()) {
+            return categorySearch(keyword, swLng, swLat, neLng, neLat, x, y, sort);
+        }
+
+        Map<PlaceTileCache.Tile, List<PlaceTileCache.TiledPlace>> placesByTile = new HashMap<>(placeTileCache.getAll(keyword, tiles));
+        List<PlaceTileCache.Tile> missingTiles = tiles.stream()
+                .filter(tile -> !placesByTile.containsKey(tile))
+                .toList();
+
+        if (missingTiles.size() > placeTileCache.getMaxMissingTiles()) {
+            // 타일마다 요청하는 것보다 뷰포트 한 번 검색이 적게 요청함 (타일 캐시는 채우지 않음)
+            KakaoLocalClient.SearchResult result = kakaoLocalClient.categorySearch(
+                    keyword, swLng, swLat, neLng, neLat, x, y, sort, KakaoLocalClient.MAX_PAGE);
+            placeTileCache.recordUpstreamRequests(result.requests());
+            log.info("타일 캐시 검색 - 빈 타일 {}개로 뷰포트 검색, 카카오 요청 {}회", missingTiles.size(), result.requests());
+            return toPlaceIds(result.documents());
+        }
+
+        if (!missingTiles.isEmpty()) {
+            placesByTile.putAll(fetchTiles(keyword, missingTiles));
+        }
+        log.info("타일 캐시 검색 - 전체 타일: {}, 카카오 요청 타일: {}", tiles.size(), missingTiles.size());
+
+        return placeTileCache.assemble(tiles, placesByTile, swLng, swLat, neLng, neLat, x, y, sort);
+    }
+
+    // 비어 있는 타일들을 동시에(타일당 max-pages-per-tile 페이지까지) 검색하고, 장소 upsert 는 한 번에 처리한 뒤 타일별로 캐시에 저장
+    private Map<PlaceTileCache.Tile, List<PlaceTileCache.TiledPlace>> fetchTiles(String keyword, List<PlaceTileCache.Tile> tiles) {
+        List<KakaoLocalClient.SearchResult> results = Flux.fromIterable(tiles)
+                .flatMapSequential(tile -> Mono.fromCallable(() -> kakaoLocalClient.categorySearch(
+                                keyword, tile.swLng(), tile.swLat(), tile.neLng(), tile.neLat(), null, null, "accuracy",
+                                placeTileCache.getMaxPagesPerTile()))
+                        .subscribeOn(Schedulers.boundedElastic()), placeTileCache.getMaxConcurrentFetches())
+                .collectList()
+                .block();
+        placeTileCache.recordUpstreamRequests(results.stream().mapToInt(KakaoLocalClient.SearchResult::requests).sum());
+        List<List<Map<String, Object>>> documentsByTile = results.stream()
+                .map(KakaoLocalClient.SearchResult::documents)
+                .toList();
 
-            for (Map<String, Object> document : documents) {
-                String kakaoPlaceId = (String) document.get("id");
-
-                Optional<Place> existingPlace = placeRepository.findByKakaoPlaceId(kakaoPlaceId);
-                if (existingPlace.isPresent()) {
-                    placeIds.add(existingPlace.get().getPlaceId());
-                } else {
-                    Place place = new Place();
-                    place.setKakaoPlaceId(kakaoPlaceId);
-                    place.setPlaceName((String) document.get("place_name"));
-                    place.setAddress((String) document.get("road_address_name"));
-                    place.setX((String) document.get("x"));
-                    place.setY((String) document.get("y"));
-
-                    Place savedPlace = placeRepository.save(place);
-                    placeIds.add(savedPlace.getPlaceId());
+        Map<String, Long> placeIdByKakaoId = upsertPlaces(documentsByTile.stream().flatMap(List::stream).toList());
+
+        Map<PlaceTileCache.Tile, List<PlaceTileCache.TiledPlace>> result = new HashMap<>();
+        for (int i = 0; i < tiles.size(); i++) {
+            List<PlaceTileCache.TiledPlace> places = new ArrayList<>();
+            for (Map<String, Object> document : documentsByTile.get(i)) {
+                Long placeId = placeIdByKakaoId.get((String) document.get("id"));
+                Double lng = PlaceTileCache.parse((String) document.get("x"));
+                Double lat = PlaceTileCache.parse((String) document.get("y"));
+                if (placeId != null && lng != null && lat != null) {
+                    places.add(new PlaceTileCache.TiledPlace(placeId, lng, lat));
                 }
             }
-            if (documents.size() < size) {
-                break;
-            }
-            page++;
+            placeTileCache.put(keyword, tiles.get(i), places);
+            result.put(tiles.get(i), places);
         }
-        return placeIds;
+        return result;
     }
 
+    // 카카오 문서들을 Place 로 일괄 upsert 하고 kakaoPlaceId -> placeId 맵 반환
+    private Map<String, Long> upsertPlaces(List<Map<String, Object>> documents) {
+        Map<String, Map<String, Object>> documentByKakaoId = new LinkedHashMap<>();
+        for (Map<String, Object> document : documents) {
+            documentByKakaoId.putIfAbsent((String) document.get("id"), document);
+        }
+        if (documentByKakaoId.isEmpty()) {
+            return new HashMap<>();
+        }
 
-    public List<PlaceNearbyDto> getPlacesWithRepresentativeImage(Long userId, List<Long> placeIds) {
-        LocalDateTime yesterday = LocalDateTime.now(clock).minusDays(1);
+        // 1. 이미 저장된 장소 한 번에 조회
+        Map<String, Long> placeIdByKakaoId = new HashMap<>();
+        placeRepository.findByKakaoPlaceIdIn(documentByKakaoId.keySet())
+                .forEach(place -> placeIdByKakaoId.put(place.getKakaoPlaceId(), place.getPlaceId()));
 
-        // 팔로워 리스트를 한 번만 가져옴
-        List<Long> followerList = followRepository.findFollowersByUserId(userId)
-                .stream()
-                .map(User::getUserId)
+        // 2. 없는 장소만 배치 INSERT 후 id 재조회 (동시 검색이 먼저 넣은 행도 여기서 같이 조회됨)
+        List<Place> newPlaces = documentByKakaoId.entrySet().stream()
+                .filter(entry -> !placeIdByKakaoId.containsKey(entry.getKey()))
+                .map(entry -> toPlace(entry.getKey(), entry.getValue()))
                 .toList();
 
-        return placeIds.stream().map(placeId -> {
-            boolean byFriend = false;
-            boolean hasPung = false;
-            Long imageId = null;
+        if (!newPlaces.isEmpty()) {
+            placeRepository.insertIgnoringDuplicates(newPlaces);
+            placeRepository.findByKakaoPlaceIdIn(newPlaces.stream().map(Place::getKakaoPlaceId).toList())
+                    .forEach(place -> placeIdByKakaoId.put(place.getKakaoPlaceId(), place.getPlaceId()));
+            log.info("새 장소 {}개 저장", newPlaces.size());
+        }
 
-            Pung pung = pungRepository.findFirstByPlaceIdAndIsReviewFalse(placeId)
-                    .orElse(null);
+        // 공간 인덱스 갱신 (이미 있는 장소는 덮어씀)
+        documentByKakaoId.forEach((kakaoPlaceId, document) -> placeSpatialIndex.put(
+                placeIdByKakaoId.get(kakaoPlaceId),
+                PlaceTileCache.parse((String) document.get("x")),
+                PlaceTileCache.parse((String) document.get("y"))));
 
-            if (pung != null) {
-                imageId = pung.getImageId();
-                hasPung = imageId != null;
+        return placeIdByKakaoId;
+    }
 
-                // 팔로워 확인
-                Long authorId = pung.getUserId();
-                if (followerList.contains(authorId)) {
-                    byFriend = true;
-                }
+    private Place toPlace(String kakaoPlaceId, Map<String, Object> document) {
+        Place place = new Place();
+        place.setKakaoPlaceId(kakaoPlaceId);
+        place.setPlaceName((String) document.get("place_name"));
+        place.setAddress((String) document.get("road_address_name"));
+        place.setX((String) document.get("x"));
+        place.setY((String) document.get("y"));
+        place.setLng(PlaceTileCache.parse(place.getX()));
+        place.setLat(PlaceTileCache.parse(place.getY()));
+        return place;
+    }
+
+
+    public List<PlaceNearbyDto> getPlacesWithRepresentativeImage(Long userId, List<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 팔로워 id, 장소, 장소 집계(대표 펑)를 각각 한 번에 조회
+        return buildPlaceNearbyDtos(placeIds, findPlaces(placeIds), placeSummaryService.getSummaries(placeIds), findFollowerIds(userId));
+    }
+
+    // 캐시된 집합 (읽기 전용)
+    public LongHashSet findFollowerIds(Long userId) {
+        return followerIdCache.get(userId);
+    }
+
+    private Map<Long, Place> findPlaces(List<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getPlaceId, place -> place));
+    }
+
+    // 미리 조회한 장소/집계/팔로워로 placeIds 순서대로 응답 생성
+    public List<PlaceNearbyDto> buildPlaceNearbyDtos(List<Long> placeIds, Map<Long, Place> placeMap,
+                                                     Map<Long, PlaceSummary> summaryMap, LongHashSet followerIds) {
+        return placeIds.stream().map(placeId -> {
+            Place place = placeMap.get(placeId);
+            if (place == null) {
+                throw new CustomException(HttpStatus.NOT_FOUND, ErrorCode.PLACE_NOT_FOUND);
             }
 
-            Place place = repositoryHelper.findPlaceById(placeId);
+            PlaceSummary summary = summaryMap.getOrDefault(placeId, PlaceSummary.empty(placeId));
+            Long imageId = summary.getRepresentativePungImageId();
+            boolean hasPung = imageId != null;
+            boolean byFriend = summary.getRepresentativePungId() != null && followerIds.contains(summary.getRepresentativePungUserId());
 
             return new PlaceNearbyDto(
                     placeId,
@@ -152,6 +255,8 @@ public class PlaceService {
                     hasPung,
                     byFriend,
                     imageId,
+                    summary.getRepresentativePungThumbnailKey(),
+                    summary.getRepresentativePungMarkerKey(),
                     place.getX(),
                     place.getY()
             );
@@ -173,16 +278,16 @@ public class PlaceService {
 
         log.info("tags {}:", tags);
 
-        // 대표 펑 & 이미지 ID 조회
-        Optional<Pung> representativePung = pungRepository.findFirstByPlaceIdAndIsReviewFalse(placeId);
+        // 대표 펑 & 이미지 ID 조회 (지도 마커와 같은 가장 최근 펑)
+        Optional<Pung> representativePung = pungRepository.findFirstByPlaceIdAndIsReviewFalseOrderByPungIdDesc(placeId);
 
         PungDto pungDto = null;
         if (representativePung.isPresent()) {
             Pung pung = representativePung.get();
             Long imageId = pung.getImageId();
-            String objectKey = "uploaded-images/" + imageId;
 
-            if (!s3Service.doesObjectExist(objectKey)) {
+            // S3 HEAD 대신 업로드 때 기록한 Image 상태 확인
+            if (!imageStatusService.isAvailable(imageId)) {
                 log.error("이미지 ID {}에 대한 S3 객체를 찾을 수 없습니다.", imageId);
                 throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.DATABASE_ERROR, "이미지를 찾을 수 없습니다.");
             }
@@ -197,6 +302,7 @@ public class PlaceService {
             pungDto.setUserId(pung.getUserId());
             pungDto.setUserName(userName); // userName 추가
             pungDto.setImageId(pung.getImageId());
+            pungDto.setThumbnailKey(imageDerivativeService.findThumbnailKeys(List.of(imageId)).get(imageId));
             pungDto.setText(pung.getText());
             pungDto.setCreatedAt(pung.getCreatedAt());
             pungDto.setUpdatedAt(pung.getUpdatedAt());
@@ -0,0 +1,120 @@
+package com.ktb7.pinpung.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지금까지 저장된 장소(카페) 좌표의 메모리 격자 인덱스.
+ * 뷰포트 검색을 카카오 호출 없이 처리하기 위해 사용하고, 결과가 적은(sparse) 지역만 카카오로 보충한다.
+ * 시작 시 PlaceSpatialIndexLoader 가 DB 에서 적재하고, 이후에는 장소 upsert 때마다 추가된다.
+ */
+@Slf4j
+@Component
+public class PlaceSpatialIndex {
+
+    private static final int MAX_RESULT = 45;
+
+    // cellKey -> (placeId -> 좌표)
+    private final Map<Long, Map<Long, IndexedPlace>> cells = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final double cellSize;
+    private final int maxCellsPerQuery;
+    @Getter
+    private final int minPlaces;
+    @Getter
+    private volatile boolean loaded = false;
+
+    public PlaceSpatialIndex(MeterRegistry meterRegistry,
+                             @Value("${place.spatial-index.cell-size-degrees:0.01}") double cellSize,
+                             @Value("${place.spatial-index.max-cells-per-query:400}") int maxCellsPerQuery,
+                             @Value("${place.spatial-index.min-places:15}") int minPlaces) {
+        this.cellSize = cellSize;
+        this.maxCellsPerQuery = maxCellsPerQuery;
+        this.minPlaces = minPlaces;
+
+        Gauge.builder("place.spatial.index.size", size, AtomicLong::get)
+                .description("공간 인덱스에 적재된 장소 수")
+                .register(meterRegistry);
+    }
+
+    public void put(Long placeId, Double lng, Double lat) {
+        if (placeId == null || lng == null || lat == null) {
+            return;
+        }
+        Map<Long, IndexedPlace> cell = cells.computeIfAbsent(cellKey(lng, lat), key -> new ConcurrentHashMap<>());
+        if (cell.put(placeId, new IndexedPlace(placeId, lng, lat)) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    public void markLoaded() {
+        loaded = true;
+        log.info("장소 공간 인덱스 적재 완료: {}개", size.get());
+    }
+
+    /**
+     * 사각형 안의 장소를 중심에서 가까운 순으로 최대 45개 반환.
+     * 격자 칸 수가 상한을 넘는 넓은 영역은 빈 리스트를 반환한다.
+     */
+    public List<Long> search(double swLng, double swLat, double neLng, double neLat) {
+        long minCol = (long) Math.floor(swLng / cellSize);
+        long maxCol = (long) Math.floor(neLng / cellSize);
+        long minRow = (long) Math.floor(swLat / cellSize);
+        long maxRow = (long) Math.floor(neLat / cellSize);
+        if ((maxCol - minCol + 1) * (maxRow - minRow + 1) > maxCellsPerQuery) {
+            return List.of();
+        }
+
+        List<IndexedPlace> found = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Map<Long, IndexedPlace> cell = cells.get(cellKey(col, row));
+                if (cell == null) {
+                    continue;
+                }
+                for (IndexedPlace place : cell.values()) {
+                    if (place.lng() >= swLng && place.lng() <= neLng && place.lat() >= swLat && place.lat() <= neLat) {
+                        found.add(place);
+                    }
+                }
+            }
+        }
+
+        double centerLng = (swLng + neLng) / 2;
+        double centerLat = (swLat + neLat) / 2;
+        double cosLat = Math.cos(Math.toRadians(centerLat));
+        found.sort(Comparator.comparingDouble(place -> {
+            double dx = (place.lng() - centerLng) * cosLat;
+            double dy = place.lat() - centerLat;
+            return dx * dx + dy * dy;
+        }));
+
+        return found.stream()
+                .limit(MAX_RESULT)
+                .map(IndexedPlace::placeId)
+                .toList();
+    }
+
+    public long size() {
+        return size.get();
+    }
+
+    private long cellKey(double lng, double lat) {
+        return cellKey((long) Math.floor(lng / cellSize), (long) Math.floor(lat / cellSize));
+    }
+
+    private static long cellKey(long col, long row) {
+        return (col << 32) ^ (row & 0xffffffffL);
+    }
+
+    private record IndexedPlace(Long placeId, double lng, double lat) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 후
+ * 1. 숫자 좌표(lng, lat)가 비어 있는 기존 Place 행을 x, y 로부터 백필하고
+ * 2. 전체 장소 좌표를 공간 인덱스에 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSpatialIndexLoader {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            backfillCoordinates();
+            loadIndex();
+            placeSpatialIndex.markLoaded();
+        } catch (Exception e) {
+            // 인덱스가 없어도 nearby 는 DB 범위 검색/카카오로 동작하므로 기동은 계속
+            log.error("장소 공간 인덱스 적재 실패", e);
+        }
+    }
+
+    private void backfillCoordinates() {
+        int total = 0;
+        int updated;
+        do {
+            updated = placeRepository.backfillCoordinates(BATCH_SIZE);
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Place 숫자 좌표 백필: {}건", total);
+        }
+    }
+
+    private void loadIndex() {
+        long afterId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = placeRepository.findCoordinatesAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+            for (Object[] row : rows) {
+                placeSpatialIndex.put((Long) row[0], (Double) row[1], (Double) row[2]);
+            }
+            if (!rows.isEmpty()) {
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+        } while (rows.size() == BATCH_SIZE);
+    }
+}
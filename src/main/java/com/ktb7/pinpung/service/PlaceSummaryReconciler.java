@@ -0,0 +1,104 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.repository.PlaceSummaryRepository;
+import com.ktb7.pinpung.repository.PlaceTagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * PlaceSummary 를 주기적으로 보정.
+ * 리뷰/펑 변경과 AI 태그 생성 작업은 각자 refresh 하므로, 여기서는 마지막 실행 이후 PlaceTag.updatedAt 이 바뀐 장소만 다시 계산한다
+ * (AI 서버가 작업 밖에서 직접 쓴 태그 반영). 시작 후 첫 실행에서는 리뷰/펑/태그가 있는데 집계 행이 없는 장소를 백필한다.
+ */
+@Slf4j
+@Component
+public class PlaceSummaryReconciler {
+
+    private final PlaceSummaryRepository placeSummaryRepository;
+    private final PlaceTagRepository placeTagRepository;
+    private final PlaceSummaryService placeSummaryService;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration overlap;
+    private final Duration initialLookback;
+
+    // 이번 인스턴스의 마지막 실행 시각 (null 이면 아직 백필 전)
+    private LocalDateTime lastRunAt;
+
+    public PlaceSummaryReconciler(PlaceSummaryRepository placeSummaryRepository,
+                                  PlaceTagRepository placeTagRepository,
+                                  PlaceSummaryService placeSummaryService,
+                                  MeterRegistry meterRegistry,
+                                  Clock clock,
+                                  @Value("${place.summary.reconcile-batch-size:500}") int batchSize,
+                                  @Value("${place.summary.reconcile-overlap:PT1M}") Duration overlap,
+                                  @Value("${place.summary.reconcile-initial-lookback:P1D}") Duration initialLookback) {
+        this.placeSummaryRepository = placeSummaryRepository;
+        this.placeTagRepository = placeTagRepository;
+        this.placeSummaryService = placeSummaryService;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.overlap = overlap;
+        this.initialLookback = initialLookback;
+    }
+
+    @Scheduled(initialDelayString = "${place.summary.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${place.summary.reconcile-interval:PT10M}")
+    public synchronized void reconcile() {
+        long start = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+
+        int backfilled = 0;
+        LocalDateTime since;
+        if (lastRunAt == null) {
+            backfilled += backfill(placeSummaryRepository::findReviewedPlaceIdsWithoutSummary);
+            backfilled += backfill(placeSummaryRepository::findPungedPlaceIdsWithoutSummary);
+            backfilled += backfill(placeSummaryRepository::findTaggedPlaceIdsWithoutSummary);
+            since = startedAt.minus(initialLookback);
+        } else {
+            // 실행 중 커밋된 변경을 놓치지 않도록 조금 겹쳐서 조회
+            since = lastRunAt.minus(overlap);
+        }
+
+        List<Long> changed = placeTagRepository.findPlaceIdsUpdatedSince(since);
+        for (int i = 0; i < changed.size(); i += batchSize) {
+            placeSummaryService.refresh(changed.subList(i, Math.min(i + batchSize, changed.size())));
+        }
+        lastRunAt = startedAt;
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("place.summary.reconcile").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("PlaceSummary 보정 완료: 태그 변경 {}개, 백필 {}개, {}ms", changed.size(), backfilled, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private int backfill(BiFunction<Long, Pageable, List<Long>> findMissing) {
+        long afterId = 0L;
+        int total = 0;
+        List<Long> placeIds;
+
+        do {
+            placeIds = findMissing.apply(afterId, PageRequest.of(0, batchSize));
+            if (placeIds.isEmpty()) {
+                break;
+            }
+            placeSummaryService.refresh(placeIds);
+            afterId = placeIds.get(placeIds.size() - 1);
+            total += placeIds.size();
+        } while (placeIds.size() == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.PlaceSummary;
+import com.ktb7.pinpung.repository.PlaceSummaryRepository;
+import com.ktb7.pinpung.repository.TagRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PlaceSummary 읽기/갱신.
+ * 리뷰, 펑, 태그가 바뀐 장소만 다시 계산하고, 조회는 IN 쿼리 한 번으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceSummaryService {
+
+    private final PlaceSummaryRepository placeSummaryRepository;
+    private final TagRepository tagRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * placeId -> 집계. 조회 경로에서는 쓰지 않고, 집계 행이 없는 장소는 빈 집계를 돌려준다.
+     * (리뷰/펑/태그가 생기면 refresh 로 만들어지고, 그 전 데이터는 PlaceSummaryReconciler 가 백필)
+     */
+    public Map<Long, PlaceSummary> getSummaries(Collection<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, PlaceSummary> summaries = placeSummaryRepository.findByPlaceIdIn(placeIds).stream()
+                .collect(Collectors.toMap(PlaceSummary::getPlaceId, Function.identity()));
+
+        placeIds.forEach(placeId -> summaries.computeIfAbsent(placeId, PlaceSummary::empty));
+        return summaries;
+    }
+
+    @Transactional
+    public void refresh(Long placeId) {
+        refresh(List.of(placeId));
+    }
+
+    // 같은 트랜잭션에서 아직 flush 되지 않은 Review/Pung 변경도 반영되도록 먼저 flush
+    @Transactional
+    public void refresh(Collection<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        recompute(placeIds);
+    }
+
+    private void recompute(Collection<Long> placeIds) {
+        Map<Long, List<String>> tags = new LinkedHashMap<>();
+        Map<Long, List<String>> representativeTags = new HashMap<>();
+        placeIds.forEach(placeId -> tags.put(placeId, new ArrayList<>()));
+
+        for (Object[] row : tagRepository.findAllTagsByPlaceIds(placeIds)) {
+            Long placeId = (Long) row[0];
+            String tagName = (String) row[1];
+            tags.get(placeId).add(tagName);
+            if (Boolean.TRUE.equals(row[2])) {
+                representativeTags.computeIfAbsent(placeId, key -> new ArrayList<>()).add(tagName);
+            }
+        }
+
+        placeSummaryRepository.upsertSummaries(tags, representativeTags);
+        log.debug("PlaceSummary 갱신: {}", placeIds);
+    }
+}
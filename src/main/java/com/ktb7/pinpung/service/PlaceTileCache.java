@@ -0,0 +1,227 @@
+package com.ktb7.pinpung.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 카카오 카테고리 검색 결과를 고정 격자(tile) 단위로 캐싱.
+ * 지도 이동 시 조금씩 달라지는 사각형도 같은 타일로 스냅되므로, 비어 있는 타일만 카카오에 요청하고
+ * 나머지는 캐시된 타일을 합쳐 뷰포트 결과를 만든다.
+ * 타일당 카카오 요청은 max-pages-per-tile 페이지까지만 보내고, 빈 타일이 max-missing-tiles 개를 넘으면
+ * 타일별 검색 대신 뷰포트 한 번 검색(최대 3페이지)으로 처리해 캐시 미스 때 요청 수가 기존 검색보다 크게 늘지 않게 한다.
+ */
+@Slf4j
+@Component
+public class PlaceTileCache {
+
+    // 기존 카카오 검색 최대 결과 수(15개 * 3페이지)와 동일하게 맞춤
+    private static final int MAX_RESULT = 45;
+
+    private final Cache<TileKey, List<TiledPlace>> cache;
+    private final BigDecimal tileSize;
+    private final int maxTilesPerQuery;
+    @Getter
+    private final int maxConcurrentFetches;
+    @Getter
+    private final int maxPagesPerTile;
+    @Getter
+    private final int maxMissingTiles;
+
+    private final Counter upstreamCalls;
+    private final Counter upstreamSaved;
+
+    public PlaceTileCache(MeterRegistry meterRegistry,
+                          @Value("${kakao.tile-cache.tile-size-degrees:0.01}") String tileSizeDegrees,
+                          @Value("${kakao.tile-cache.max-size:5000}") long maxSize,
+                          @Value("${kakao.tile-cache.ttl-minutes:10}") long ttlMinutes,
+                          @Value("${kakao.tile-cache.max-tiles-per-query:16}") int maxTilesPerQuery,
+                          @Value("${kakao.tile-cache.max-concurrent-fetches:4}") int maxConcurrentFetches,
+                          @Value("${kakao.tile-cache.max-pages-per-tile:1}") int maxPagesPerTile,
+                          @Value("${kakao.tile-cache.max-missing-tiles:3}") int maxMissingTiles) {
+        this.tileSize = new BigDecimal(tileSizeDegrees);
+        this.maxTilesPerQuery = maxTilesPerQuery;
+        this.maxConcurrentFetches = Math.max(1, maxConcurrentFetches);
+        this.maxPagesPerTile = Math.max(1, maxPagesPerTile);
+        this.maxMissingTiles = maxMissingTiles;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+
+        // 타일 단위 hit ratio: cache.gets{cache=kakaoTileCache,result=hit|miss}
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kakaoTileCache");
+        this.upstreamCalls = Counter.builder("kakao.local.tile.upstream")
+                .tag("result", "called")
+                .description("타일 검색(빈 타일이 많을 때의 뷰포트 검색 포함)으로 카카오에 보낸 페이지 요청 수")
+                .register(meterRegistry);
+        this.upstreamSaved = Counter.builder("kakao.local.tile.upstream")
+                .tag("result", "saved")
+                .description("캐시로 대체되어 카카오 요청을 생략한 타일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 뷰포트를 덮는 타일 목록 (남->북, 서->동 순서).
+     * 좌표를 해석할 수 없거나 타일 수가 상한을 넘으면 빈 리스트를 반환하고 호출 측은 캐시 없이 검색한다.
+     */
+    public List<Tile> coveringTiles(String swLng, String swLat, String neLng, String neLat) {
+        Viewport viewport = Viewport.parse(swLng, swLat, neLng, neLat);
+        if (viewport == null) {
+            return List.of();
+        }
+
+        double size = tileSize.doubleValue();
+        long minCol = (long) Math.floor(viewport.swLng() / size);
+        long maxCol = (long) Math.floor(viewport.neLng() / size);
+        long minRow = (long) Math.floor(viewport.swLat() / size);
+        long maxRow = (long) Math.floor(viewport.neLat() / size);
+
+        long tileCount = (maxCol - minCol + 1) * (maxRow - minRow + 1);
+        if (tileCount > maxTilesPerQuery) {
+            log.info("타일 수 {}개가 상한 {}개를 넘어 캐시 없이 검색", tileCount, maxTilesPerQuery);
+            return List.of();
+        }
+
+        List<Tile> tiles = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                tiles.add(new Tile(col, row, tileSize));
+            }
+        }
+        return tiles;
+    }
+
+    public Map<Tile, List<TiledPlace>> getAll(String keyword, List<Tile> tiles) {
+        Map<TileKey, Tile> keys = new LinkedHashMap<>();
+        tiles.forEach(tile -> keys.put(new TileKey(keyword, tile.col(), tile.row()), tile));
+
+        Map<Tile, List<TiledPlace>> result = new HashMap<>();
+        cache.getAllPresent(keys.keySet()).forEach((key, places) -> result.put(keys.get(key), places));
+
+        upstreamSaved.increment(result.size());
+        return result;
+    }
+
+    public void put(String keyword, Tile tile, List<TiledPlace> places) {
+        cache.put(new TileKey(keyword, tile.col(), tile.row()), List.copyOf(places));
+    }
+
+    public void recordUpstreamRequests(int requests) {
+        upstreamCalls.increment(requests);
+    }
+
+    /**
+     * 타일 결과를 합쳐 뷰포트 결과를 만든다.
+     * 뷰포트 밖 장소는 제외하고, distance 정렬이면 중심 좌표 기준으로 다시 정렬한다.
+     * 그 외(accuracy)에는 타일 안의 카카오 순위끼리 합쳐서(각 타일 1위, 2위, ... 순) 남서쪽 타일이 결과를 독차지하지 않게 한다.
+     */
+    public List<Long> assemble(List<Tile> tiles, Map<Tile, List<TiledPlace>> placesByTile,
+                               String swLng, String swLat, String neLng, String neLat,
+                               String x, String y, String sort) {
+        Viewport viewport = Viewport.parse(swLng, swLat, neLng, neLat);
+        if (viewport == null) {
+            return List.of();
+        }
+
+        // placeId -> 타일 내 카카오 순위 (여러 타일에 걸친 장소는 더 높은 순위)
+        Map<Long, TiledPlace> inViewport = new LinkedHashMap<>();
+        Map<Long, Integer> rankById = new HashMap<>();
+        for (Tile tile : tiles) {
+            List<TiledPlace> tilePlaces = placesByTile.getOrDefault(tile, List.of());
+            for (int rank = 0; rank < tilePlaces.size(); rank++) {
+                TiledPlace place = tilePlaces.get(rank);
+                if (viewport.contains(place.lng(), place.lat())) {
+                    inViewport.putIfAbsent(place.placeId(), place);
+                    rankById.merge(place.placeId(), rank, Math::min);
+                }
+            }
+        }
+
+        List<TiledPlace> places = new ArrayList<>(inViewport.values());
+        Double centerLng = parse(x);
+        Double centerLat = parse(y);
+        if ("distance".equals(sort) && centerLng != null && centerLat != null) {
+            double cosLat = Math.cos(Math.toRadians(centerLat));
+            places.sort(Comparator.comparingDouble(place -> {
+                double dx = (place.lng() - centerLng) * cosLat;
+                double dy = place.lat() - centerLat;
+                return dx * dx + dy * dy;
+            }));
+        } else {
+            // 같은 순위끼리는 타일 순서 유지 (stable sort)
+            places.sort(Comparator.comparingInt(place -> rankById.get(place.placeId())));
+        }
+
+        return places.stream()
+                .limit(MAX_RESULT)
+                .map(TiledPlace::placeId)
+                .toList();
+    }
+
+    static Double parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public record Tile(long col, long row, BigDecimal size) {
+
+        // 카카오 rect 파라미터로 쓰이므로 부동소수 오차 없이 문자열로 계산
+        public String swLng() {
+            return size.multiply(BigDecimal.valueOf(col)).toPlainString();
+        }
+
+        public String swLat() {
+            return size.multiply(BigDecimal.valueOf(row)).toPlainString();
+        }
+
+        public String neLng() {
+            return size.multiply(BigDecimal.valueOf(col + 1)).toPlainString();
+        }
+
+        public String neLat() {
+            return size.multiply(BigDecimal.valueOf(row + 1)).toPlainString();
+        }
+    }
+
+    public record TiledPlace(Long placeId, double lng, double lat) {
+    }
+
+    private record TileKey(String keyword, long col, long row) {
+    }
+
+    private record Viewport(double swLng, double swLat, double neLng, double neLat) {
+
+        static Viewport parse(String swLng, String swLat, String neLng, String neLat) {
+            Double west = PlaceTileCache.parse(swLng);
+            Double south = PlaceTileCache.parse(swLat);
+            Double east = PlaceTileCache.parse(neLng);
+            Double north = PlaceTileCache.parse(neLat);
+            if (west == null || south == null || east == null || north == null || west > east || south > north) {
+                return null;
+            }
+            return new Viewport(west, south, east, north);
+        }
+
+        boolean contains(double lng, double lat) {
+            return lng >= swLng && lng <= neLng && lat >= swLat && lat <= neLat;
+        }
+    }
+}
@@ -1,32 +1,90 @@
 package com.ktb7.pinpung.service;
 
-import com.ktb7.pinpung.entity.Pung;
 import com.ktb7.pinpung.repository.PungRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-@RequiredArgsConstructor
+/**
+ * 24시간 내 펑을 리뷰(isReview)로 전환.
+ * 엔티티를 메모리에 올리지 않고 id 범위(batch-size)마다 벌크 UPDATE 를 실행하며, 범위마다 트랜잭션이 따로 커밋된다.
+ * 진행 상황은 pung.scheduler.progress(처리한 id 범위 비율), pung.scheduler.updated(전환한 행 수)로 확인한다.
+ */
+@Slf4j
 @Component
 public class PungScheduler {
+
+    private static final int SUMMARY_REFRESH_CHUNK = 500;
+
     private final PungRepository pungRepository;
     private final Clock clock;
+    private final PlaceSummaryService placeSummaryService;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    // 0~1000 (permille)
+    private final AtomicLong progress = new AtomicLong();
+
+    public PungScheduler(PungRepository pungRepository,
+                         Clock clock,
+                         PlaceSummaryService placeSummaryService,
+                         MeterRegistry meterRegistry,
+                         @Value("${pung.scheduler.batch-size:10000}") int batchSize) {
+        this.pungRepository = pungRepository;
+        this.clock = clock;
+        this.placeSummaryService = placeSummaryService;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+
+        meterRegistry.gauge("pung.scheduler.progress", progress, value -> value.get() / 1000.0);
+    }
 
     @Scheduled(cron = "0 0 6 * * *") // 매일 오전 6시에 실행
     public void schedule() {
+        long start = System.nanoTime();
         LocalDateTime yesterday = LocalDateTime.now(clock).minusDays(1);
+        progress.set(0);
 
-        List<Pung> pungs = pungRepository.findCreatedIn24H(yesterday);
+        List<Object[]> range = pungRepository.findReviewTargetIdRange(yesterday);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            progress.set(1000);
+            log.info("리뷰로 전환할 펑 없음");
+            return;
+        }
+        long minId = ((Number) range.get(0)[0]).longValue();
+        long maxId = ((Number) range.get(0)[1]).longValue();
 
-        for (Pung pung : pungs) {
-            pung.setIsReview(true);
+        long updated = 0;
+        Set<Long> placeIds = new LinkedHashSet<>();
+        for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+            long toId = Math.min(fromId + batchSize, maxId + 1);
+
+            placeIds.addAll(pungRepository.findReviewTargetPlaceIds(fromId, toId, yesterday));
+            int count = pungRepository.markReviewInRange(fromId, toId, yesterday);
+
+            updated += count;
+            meterRegistry.counter("pung.scheduler.updated").increment(count);
+            progress.set((toId - minId) * 1000 / (maxId - minId + 1));
         }
 
-        pungRepository.saveAll(pungs);
+        // 리뷰로 넘어간 펑이 있는 장소는 대표 펑이 바뀌므로 집계 갱신
+        List<Long> placeIdList = new ArrayList<>(placeIds);
+        for (int i = 0; i < placeIdList.size(); i += SUMMARY_REFRESH_CHUNK) {
+            placeSummaryService.refresh(placeIdList.subList(i, Math.min(i + SUMMARY_REFRESH_CHUNK, placeIdList.size())));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("pung.scheduler").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("펑 리뷰 전환 완료: {}건, 장소 {}곳, {}ms", updated, placeIds.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
     }
 }
-
@@ -22,7 +22,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,8 +35,12 @@ public class PungService {
     private final ImageRepository imageRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageStatusService imageStatusService;
     private final Clock clock;
-    private final AiService aiService;
+    private final TagGenerationService tagGenerationService;
+    private final PlaceSummaryService placeSummaryService;
+    private final UserStatsService userStatsService;
 
     public PungsResponseDto getPungsByPlaceId(Long placeId, Pageable pageable) {
         LocalDateTime yesterday = LocalDateTime.now(clock).minusDays(1);
@@ -45,7 +52,7 @@ public class PungService {
         int currentPage = pungDtoPage.getNumber();
         log.info("pungs/{placeId} pungCount, currentPage: {} {}", pungCount, currentPage);
 
-        return new PungsResponseDto(pungCount, currentPage, pungDtoPage.getContent());
+        return new PungsResponseDto(pungCount, currentPage, withThumbnailKeys(pungDtoPage.getContent()));
     }
 
     public PungsResponseDto getPungsByUserId(Long userId, Pageable pageable) {
@@ -61,7 +68,7 @@ public class PungService {
         int currentPage = pungDtoPage.getNumber();
         log.info("pungs pungCount, currentPage: {} {}", pungCount, currentPage);
 
-        return new PungsResponseDto(pungCount, currentPage, pungDtoPage.getContent());
+        return new PungsResponseDto(pungCount, currentPage, withThumbnailKeys(pungDtoPage.getContent()));
     }
 
 
@@ -88,8 +95,12 @@ public class PungService {
                 // 3. Image 엔티티에 S3 키값 업데이트 후 저장
                 image.setImageTextKey(imageKeys.get("imageTextKey"));
                 image.setPureImageKey(imageKeys.get("pureImageKey"));
+                imageStatusService.markUploaded(image, pureImage);
                 imageRepository.save(image);
                 log.info("Image 저장 완료, imageId: {}", image.getImageId());
+
+                // 썸네일/마커 축소본은 커밋 후 비동기로 생성
+                imageDerivativeService.generateAfterCommit(image);
             }
 
             // 4. Pung 엔티티 생성 후 저장
@@ -101,14 +112,13 @@ public class PungService {
             pung.setText(text);
             pungRepository.save(pung);
             log.info("Pung 저장 완료, pungId: {}", pung.getPungId());
+            userStatsService.addPung(userId, 1);
 
-            // 5. AI에 이미지 전달 (실패해도 프론트엔드에 영향 없음)
-            try {
-                aiService.genTags(placeId, text, "https://pinpung-s3.s3.ap-northeast-2.amazonaws.com/original-images/"+imageId, userId);
-                log.info("AI 태그 생성 요청 완료");
-            } catch (Exception aiException) {
-                log.error("AI 태그 생성 중 오류 발생: {}", aiException.getMessage(), aiException);
-            }
+            // 5. AI 태그 생성 작업 등록 (커밋 후 TagGenerationDispatcher 가 비동기로 전달)
+            tagGenerationService.enqueue(placeId, text, imageId, userId);
+
+            // 6. 장소 집계(대표 펑, 태그) 갱신
+            placeSummaryService.refresh(placeId);
 
             return new MessageResponseDto("Pung upload success");
 
@@ -118,6 +128,16 @@ public class PungService {
         }
     }
 
+    // 페이지의 축소본 키를 한 번에 조회
+    private List<PungDto> withThumbnailKeys(List<PungDto> pungDtos) {
+        Map<Long, String> thumbnailKeys = imageDerivativeService.findThumbnailKeys(pungDtos.stream()
+                .map(PungDto::getImageId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        pungDtos.forEach(pungDto -> pungDto.setThumbnailKey(thumbnailKeys.get(pungDto.getImageId())));
+        return pungDtos;
+    }
+
     private PungDto convertToDto(Pung pung) {
         String userName = userRepository.findById(pung.getUserId())
                 .map(user -> user.getUserName())
@@ -28,8 +28,12 @@ public class ReviewService {
     private final ImageRepository imageRepository;
     private final ReviewRepository reviewRepository;
     private final S3Service s3Service;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageStatusService imageStatusService;
     private final RepositoryHelper repositoryHelper;
-    private final AiService aiService;
+    private final TagGenerationService tagGenerationService;
+    private final PlaceSummaryService placeSummaryService;
+    private final UserStatsService userStatsService;
 
     @Transactional
     public MessageResponseDto uploadReview(Long userId, UploadReviewRequestDto uploadReviewRequest) {
@@ -49,7 +53,11 @@ public class ReviewService {
                 // S3에 이미지 업로드
                 Map<String, String> imageKeys = s3Service.uploadFile(null, reviewImage, imageId, true);
                 image.setPureImageKey(imageKeys.get("pureImageKey"));
+                imageStatusService.markUploaded(image, reviewImage);
                 imageRepository.save(image);
+
+                // 썸네일/마커 축소본은 커밋 후 비동기로 생성
+                imageDerivativeService.generateAfterCommit(image);
             }
 
             // 2. Review 엔티티 생성 후 저장 (imageId가 없으면 null로 저장됨)
@@ -59,14 +67,13 @@ public class ReviewService {
             review.setImageId(imageId);
             review.setText(text);
             reviewRepository.save(review);
+            userStatsService.addReview(userId, 1);
 
-            // 5. AI에 이미지 전달 (실패해도 프론트엔드에 영향 없음)
-            try {
-                aiService.genTags(placeId, text, "https://pinpung-s3.s3.ap-northeast-2.amazonaws.com/original-images/"+imageId, userId);
-                log.info("AI 태그 생성 요청 완료");
-            } catch (Exception aiException) {
-                log.error("AI 태그 생성 중 오류 발생: {}", aiException.getMessage(), aiException);
-            }
+            // 5. AI 태그 생성 작업 등록 (커밋 후 TagGenerationDispatcher 가 비동기로 전달)
+            tagGenerationService.enqueue(placeId, text, imageId, userId);
+
+            // 6. 장소 집계(리뷰 수, 최근 리뷰 이미지, 태그) 갱신
+            placeSummaryService.refresh(placeId);
 
             return new MessageResponseDto("Review upload success");
 
@@ -96,13 +103,20 @@ public class ReviewService {
             // S3에 이미지 업로드
             Map<String, String> imageKeys = s3Service.uploadFile(null, reviewImage, imageId, true);
             image.setPureImageKey(imageKeys.get("pureImageKey"));
+            imageStatusService.markUploaded(image, reviewImage);
             imageRepository.save(image);
+
+            // 썸네일/마커 축소본은 커밋 후 비동기로 생성
+            imageDerivativeService.generateAfterCommit(image);
         }
 
         // 텍스트 및 이미지 ID 업데이트
         review.setText(text);
         review.setImageId(imageId);
 
+        // 장소 집계(최근 리뷰 이미지) 갱신
+        placeSummaryService.refresh(placeId);
+
         return new MessageResponseDto("Review modify success");
     }
 
@@ -123,6 +137,12 @@ public class ReviewService {
         if (existsAfterDelete) {
             throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.DATABASE_ERROR, "리뷰 삭제에 실패했습니다.");
         }
+
+        userStatsService.addReview(userId, -1);
+
+        // 장소 집계(리뷰 수, 최근 리뷰 이미지) 갱신
+        placeSummaryService.refresh(placeId);
+
         return new MessageResponseDto("Review delete success");
     }
 }
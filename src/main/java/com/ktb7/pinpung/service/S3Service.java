@@ -4,31 +4,52 @@ import com.ktb7.pinpung.exception.common.CustomException;
 import com.ktb7.pinpung.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * 이미지 S3 업로드.
+ * MultipartFile 스트림을 임시 파일 없이 바로 올리고, multipart-threshold 이상인 파일은 multipart 업로드로 나눠 올린다.
+ * 펑의 두 이미지(텍스트 포함, 원본)는 s3UploadExecutor 에서 동시에 올린다.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class S3Service {
 
     private final S3Client s3Client;
+    @Qualifier("s3UploadExecutor")
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
 
+    @Value("${s3.upload.multipart-threshold:8MB}")
+    private DataSize multipartThreshold;
+
+    // S3 multipart 최소 파트 크기는 5MB (마지막 파트 제외)
+    @Value("${s3.upload.part-size:5MB}")
+    private DataSize partSize;
+
     public Map<String, String> uploadFile(MultipartFile imageWithText, MultipartFile pureImage, Long imageId, Boolean isReview) {
         try {
             String imageTextKey = null;
@@ -37,49 +58,163 @@ public class S3Service {
 
             log.info("S3 업로드 시작 - bucket: {}, imageTextKey: {}, pureImageKey: {}", bucketName, imageTextKey, pureImageKey);
 
-            // imageWithText 파일을 임시 파일로 변환 후 업로드
+            // imageWithText 는 별도 스레드에서, pureImage 는 호출 스레드에서 동시에 업로드
+            CompletableFuture<Void> imageTextUpload = CompletableFuture.completedFuture(null);
             if (!isReview) {
-                Path tempImageTextFile = Files.createTempFile("temp-" + imageWithText.getOriginalFilename(), null);
-                imageWithText.transferTo(tempImageTextFile);
-
-                s3Client.putObject(
-                        PutObjectRequest.builder()
-                                .bucket(bucketName)
-                                .key(imageTextKey)
-                                .contentType(imageWithText.getContentType())
-                                .build(),
-                        tempImageTextFile);
-                Files.deleteIfExists(tempImageTextFile);
+                String key = imageTextKey;
+                imageTextUpload = CompletableFuture.runAsync(() -> upload(imageWithText, key), s3UploadExecutor);
             }
 
-            // pureImage 파일을 임시 파일로 변환 후 업로드
-            Path tempPureImageFile = Files.createTempFile("temp-" + pureImage.getOriginalFilename(), null);
-            pureImage.transferTo(tempPureImageFile);
-            s3Client.putObject(
-                    PutObjectRequest.builder()
-                            .bucket(bucketName)
-                            .key(pureImageKey)
-                            .contentType(pureImage.getContentType())
-                            .build(),
-                    tempPureImageFile);
-
-            // 업로드 후 임시 파일 삭제
-            Files.deleteIfExists(tempPureImageFile);
+            try {
+                upload(pureImage, pureImageKey);
+            } catch (RuntimeException e) {
+                // 요청이 실패해도 텍스트 이미지 업로드는 계속 진행되므로 끝나길 기다렸다가 지워서 고아 객체를 남기지 않음
+                if (imageTextKey != null && completes(imageTextUpload)) {
+                    deleteQuietly(imageTextKey);
+                }
+                throw e;
+            }
+            try {
+                join(imageTextUpload);
+            } catch (RuntimeException e) {
+                // 텍스트 이미지만 실패한 경우 이미 올라간 원본도 삭제
+                deleteQuietly(pureImageKey);
+                throw e;
+            }
 
             Map<String, String> imageKeys = new HashMap<>();
             imageKeys.put("imageTextKey", imageTextKey);
             imageKeys.put("pureImageKey", pureImageKey);
 
             return imageKeys;
-        } catch (IOException e) {
-            log.error("파일 생성 또는 전송 중 오류 발생: {}", e.getMessage(), e);
-            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.FILE_PROCESSING_FAILED, "파일 생성 중 오류가 발생했습니다.");
+        } catch (UncheckedIOException e) {
+            log.error("파일 읽기 또는 전송 중 오류 발생: {}", e.getMessage(), e);
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.FILE_PROCESSING_FAILED, "파일 처리 중 오류가 발생했습니다.");
         } catch (Exception e) {
             log.error("이미지 업로드 중 오류 발생: {}", e.getMessage(), e);
             throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.IMAGE_UPLOAD_FAILED, "이미지 업로드 중 오류가 발생했습니다.");
         }
     }
 
+    private void upload(MultipartFile file, String key) {
+        try {
+            if (file.getSize() >= multipartThreshold.toBytes()) {
+                multipartUpload(file, key);
+                return;
+            }
+
+            // 크기를 알고 있으므로 스트림을 그대로 본문으로 사용
+            try (InputStream inputStream = file.getInputStream()) {
+                s3Client.putObject(
+                        PutObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .contentType(file.getContentType())
+                                .contentLength(file.getSize())
+                                .build(),
+                        RequestBody.fromInputStream(inputStream, file.getSize()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 파트 크기만큼 읽어서 순서대로 업로드, 실패하면 업로드 취소
+    private void multipartUpload(MultipartFile file, String key) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(file.getContentType())
+                .build()).uploadId();
+
+        try (InputStream inputStream = file.getInputStream()) {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[(int) partSize.toBytes()];
+            int partNumber = 1;
+            int read;
+
+            while ((read = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromBytes(Arrays.copyOf(buffer, read)));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.info("S3 multipart 업로드 완료 - key: {}, parts: {}", key, parts.size());
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    private static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 업로드가 성공했으면 true (실패했으면 지울 객체가 없음)
+    private static boolean completes(CompletableFuture<Void> upload) {
+        try {
+            upload.join();
+            return true;
+        } catch (CompletionException e) {
+            return false;
+        }
+    }
+
+    // 실패한 요청이 올린 객체 삭제 (삭제 실패는 기록만 하고 원래 예외를 던짐)
+    private void deleteQuietly(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            log.info("실패한 업로드의 S3 객체 삭제 - key: {}", key);
+        } catch (RuntimeException e) {
+            log.error("실패한 업로드의 S3 객체 삭제 실패 - key: {}", key, e);
+        }
+    }
+
+    public byte[] download(String key) {
+        return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build()).asByteArray();
+    }
+
+    public void upload(String key, byte[] bytes, String contentType) {
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) bytes.length)
+                        .build(),
+                RequestBody.fromBytes(bytes));
+    }
+
     public boolean doesObjectExist(String objectKey) {
         try {
             // S3에 객체의 메타데이터만 요청하여 존재 여부를 확인합니다.
@@ -95,4 +230,4 @@ public class S3Service {
             throw e;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.dto.Place.PlaceNearbyDto;
+import com.ktb7.pinpung.dto.Search.SearchResponseDto;
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.PlaceSummary;
+import com.ktb7.pinpung.util.LongHashSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 리스트 검색 응답 조립.
+ * placeId 목록에만 의존하는 보강 단계(팔로워, 장소 정보, 장소 집계)를 동시에 실행하고 합친다.
+ * 대표 펑/리뷰 수/대표 태그는 PlaceSummary 한 번의 IN 조회로 읽는다.
+ * 단계별 소요 시간은 search.enrichment.stage{stage} 타이머와 로그로 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchEnrichmentPipeline {
+
+    private final PlaceService placeService;
+    private final SearchService searchService;
+    private final PlaceSummaryService placeSummaryService;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("searchEnrichmentExecutor")
+    private final ThreadPoolTaskExecutor executor;
+
+    public SearchResponseDto search(Long userId, List<Long> placeIds, String sortType) {
+        long start = System.nanoTime();
+        Map<String, Long> stageMillis = new ConcurrentHashMap<>();
+
+        CompletableFuture<LongHashSet> followers = runStage("follower", stageMillis,
+                () -> placeService.findFollowerIds(userId));
+        CompletableFuture<Map<Long, Place>> places = runStage("place", stageMillis,
+                () -> searchService.findPlaces(placeIds));
+        CompletableFuture<Map<Long, PlaceSummary>> summaries = runStage("summary", stageMillis,
+                () -> placeSummaryService.getSummaries(placeIds));
+
+        Map<Long, Place> placeMap = join(places);
+        Map<Long, PlaceSummary> summaryMap = join(summaries);
+        List<PlaceNearbyDto> nearby = placeService.buildPlaceNearbyDtos(placeIds, placeMap, summaryMap, join(followers));
+
+        SearchResponseDto response = searchService.makeResponse(
+                userId,
+                nearby,
+                searchService.toTagReviews(placeIds, summaryMap),
+                placeMap,
+                sortType);
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("search.enrichment").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("검색 결과 보강 - places: {}, total: {}ms, stages: {}", placeIds.size(), TimeUnit.NANOSECONDS.toMillis(elapsed), stageMillis);
+        return response;
+    }
+
+    private <T> CompletableFuture<T> runStage(String stage, Map<String, Long> stageMillis, Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                stageMillis.put(stage, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                meterRegistry.timer("search.enrichment.stage", "stage", stage).record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }, executor);
+    }
+
+    // 단계에서 던진 CustomException 등은 그대로 전달
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -4,13 +4,14 @@ import com.ktb7.pinpung.dto.Place.PlaceNearbyDto;
 import com.ktb7.pinpung.dto.Search.SearchPlaceInfoDto;
 import com.ktb7.pinpung.dto.Search.SearchResponseDto;
 import com.ktb7.pinpung.dto.Search.SearchTagReviewDto;
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.PlaceSummary;
 import com.ktb7.pinpung.exception.common.CustomException;
 import com.ktb7.pinpung.exception.common.ErrorCode;
 import com.ktb7.pinpung.repository.PlaceRepository;
-import com.ktb7.pinpung.repository.ReviewRepository;
-import com.ktb7.pinpung.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
@@ -29,13 +30,28 @@ public class SearchService {
     @Value("${spring.ai.openai.api-key}")
     private String openaiKey;
 
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    private static final String OPENAI_API_URL = "/v1/chat/completions";
 
-    private final WebClient webClient = WebClient.builder().build();
+    @Qualifier("openAiWebClient")
+    private final WebClient webClient;
 
-    private final TagRepository tagRepository;
-    private final ReviewRepository reviewRepository;
+    private final LocationKeywordClassifier locationKeywordClassifier;
+    private final LocationDecisionCache locationDecisionCache;
+    private final PlaceSummaryService placeSummaryService;
 
+    // 키워드에 위치 정보가 있는지 판단 - 로컬 분류기로 판단이 안 되고 저장된 판단도 없을 때만 GPT 호출
+    public Boolean hasLocation(String keyword) {
+        LocationKeywordClassifier.Result result = locationKeywordClassifier.classify(keyword);
+        log.info("위치 키워드 분류 - keyword: {}, result: {}", keyword, result);
+
+        return switch (result) {
+            case LOCATION -> true;
+            case NOT_LOCATION -> false;
+            case AMBIGUOUS -> locationDecisionCache.get(keyword, this::useGpt);
+        };
+    }
+
+    // 1/0 이외의 응답이면 null (판단 보류)
     public Boolean useGpt(String keyword) {
         // 프롬프트 생성
         String prompt = "다음 키워드에 지역에 대한 정보(ex. 강남, 강원도, 판교역, 판교 유스페이스몰 등 특정 위치에 대한 정보이어야 하며, 카페 이름은 위치 정보가 아님)가 있으면 '1'만을, 없으면 '0'만을 응답하세요: \"" + keyword + "\"";
@@ -92,8 +108,9 @@ public class SearchService {
             } else if ("0".equals(content)) {
                 return false;
             } else {
+                // 판단 보류: LocationDecisionCache 가 캐시/저장하지 않고 이번 요청만 위치 정보 없음으로 처리
                 log.warn("예상치 못한 GPT 응답: {}", content);
-                return false;
+                return null;
             }
 
         } catch (CustomException e) {
@@ -103,53 +120,57 @@ public class SearchService {
     }
 
     public List<SearchTagReviewDto> getPlacesWithReviewCountsAndTags(List<Long> placeIds) {
-        List<Object[]> reviewCounts = reviewRepository.findReviewCountsByPlaceIds(placeIds);
-        List<Object[]> tags = tagRepository.findTagsByPlaceIds(placeIds);
-
-        Map<Long, Long> reviewCountMap = reviewCounts.stream()
-                .collect(Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> (Long) row[1]
-                ));
-        log.info("/tag-reviews review counts: {}", reviewCountMap);
-
-        Map<Long, List<String>> tagMap = tags.stream()
-                .collect(Collectors.groupingBy(
-                        row -> (Long) row[0],
-                        Collectors.mapping(row -> (String) row[1], Collectors.toList())
-                ));
-        log.info("/tag-reviews tags: {}", tagMap);
+        // 리뷰 수, 대표 태그는 장소 집계에서 한 번에 조회
+        return toTagReviews(placeIds, placeSummaryService.getSummaries(placeIds));
+    }
 
+    public List<SearchTagReviewDto> toTagReviews(List<Long> placeIds, Map<Long, PlaceSummary> summaryMap) {
         return placeIds.stream().map(placeId -> {
-            Long reviewCount = reviewCountMap.getOrDefault(placeId, 0L);
-            List<String> tagList = tagMap.getOrDefault(placeId, Collections.emptyList());
-
-            return new SearchTagReviewDto(placeId, tagList, reviewCount);
+            PlaceSummary summary = summaryMap.getOrDefault(placeId, PlaceSummary.empty(placeId));
+            return new SearchTagReviewDto(placeId, summary.getRepresentativeTags(), summary.getReviewCount());
         }).collect(Collectors.toList());
     }
 
     public SearchResponseDto makeResponse(Long userId, List<PlaceNearbyDto> placeNearbyInfoList, List<SearchTagReviewDto> placeNearbyTagReviewList, String sortType) {
-        // 두개를 placeId 기준으로 합쳐서 search place info 채우기
-        List<SearchPlaceInfoDto> searchPlaceInfoList = placeNearbyInfoList.stream()
-                .map(place -> {
-                    // 태그 및 리뷰 정보를 찾아서 병합
-                    SearchTagReviewDto tagReviewDto = placeNearbyTagReviewList.stream()
-                            .filter(tagReview -> tagReview.getPlaceId().equals(place.getPlaceId()))
-                            .findFirst()
-                            .orElse(null);
+        List<Long> placeIds = placeNearbyInfoList.stream()
+                .map(PlaceNearbyDto::getPlaceId)
+                .toList();
 
-                    String address = placeRepository.findAddressByPlaceId(place.getPlaceId())
-                            .orElseThrow(() -> new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.ADDRESS_NOT_FOUND));
+        // 장소명/주소/좌표는 한 번에 조회
+        return makeResponse(userId, placeNearbyInfoList, placeNearbyTagReviewList, findPlaces(placeIds), sortType);
+    }
+
+    public Map<Long, Place> findPlaces(List<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return Map.of();
+        }
+        return placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getPlaceId, place -> place));
+    }
 
+    public SearchResponseDto makeResponse(Long userId, List<PlaceNearbyDto> placeNearbyInfoList, List<SearchTagReviewDto> placeNearbyTagReviewList,
+                                          Map<Long, Place> placeMap, String sortType) {
+        // 태그/리뷰 정보는 placeId 로 키잉
+        Map<Long, SearchTagReviewDto> tagReviewMap = placeNearbyTagReviewList.stream()
+                .collect(Collectors.toMap(SearchTagReviewDto::getPlaceId, tagReview -> tagReview, (first, second) -> first));
+
+        List<SearchPlaceInfoDto> searchPlaceInfoList = placeNearbyInfoList.stream()
+                .map(placeNearby -> {
+                    SearchTagReviewDto tagReviewDto = tagReviewMap.get(placeNearby.getPlaceId());
+
+                    Place place = placeMap.get(placeNearby.getPlaceId());
+                    if (place == null || place.getAddress() == null) {
+                        throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.ADDRESS_NOT_FOUND);
+                    }
 
                     // SearchPlaceInfoDto 생성
                     return new SearchPlaceInfoDto(
                             place.getPlaceId(),
                             place.getPlaceName(),
-                            address,
-                            place.getHasPung(),
-                            place.getByFriend(),
-                            place.getImageId(),
+                            place.getAddress(),
+                            placeNearby.getHasPung(),
+                            placeNearby.getByFriend(),
+                            placeNearby.getImageId(),
                             tagReviewDto != null ? tagReviewDto.getTags() : List.of(),
                             tagReviewDto != null ? tagReviewDto.getReviewCount() : 0L,
                             place.getX(),
@@ -159,14 +180,12 @@ public class SearchService {
                 .toList();
 
         // SearchResponseDto 생성
-        SearchResponseDto response = new SearchResponseDto(
+        return new SearchResponseDto(
                 userId,
                 sortType,
                 (long) searchPlaceInfoList.size(),
                 searchPlaceInfoList
         );
-
-        return response;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.TagGenerationJob;
+import com.ktb7.pinpung.entity.TagGenerationJob.Status;
+import com.ktb7.pinpung.repository.TagGenerationJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TagGenerationJob outbox 를 꺼내 AI 서버(/gen_tags/)에 보낸다.
+ * 동시 요청 수는 max-concurrency 로 제한하고, 실패하면 지수 백오프로 재시도하다 max-attempts 를 넘으면 DEAD 로 남긴다.
+ * /gen_tags/ 는 리뷰 하나씩만 받기 때문에 요청은 작업 단위로 보낸다.
+ */
+@Slf4j
+@Component
+public class TagGenerationDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final TagGenerationJobRepository tagGenerationJobRepository;
+    private final AiService aiService;
+    private final PlaceSummaryService placeSummaryService;
+    private final TagLeaderboard tagLeaderboard;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Semaphore permits;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong deadJobs = new AtomicLong();
+
+    public TagGenerationDispatcher(TagGenerationJobRepository tagGenerationJobRepository,
+                                   AiService aiService,
+                                   PlaceSummaryService placeSummaryService,
+                                   TagLeaderboard tagLeaderboard,
+                                   @Qualifier("tagGenerationExecutor") ThreadPoolTaskExecutor executor,
+                                   MeterRegistry meterRegistry,
+                                   Clock clock,
+                                   @Value("${tag.generation.max-concurrency:4}") int maxConcurrency,
+                                   @Value("${tag.generation.max-attempts:5}") int maxAttempts,
+                                   @Value("${tag.generation.base-backoff:PT10S}") Duration baseBackoff,
+                                   @Value("${tag.generation.max-backoff:PT10M}") Duration maxBackoff,
+                                   @Value("${tag.generation.lease:PT2M}") Duration lease) {
+        this.tagGenerationJobRepository = tagGenerationJobRepository;
+        this.aiService = aiService;
+        this.placeSummaryService = placeSummaryService;
+        this.tagLeaderboard = tagLeaderboard;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+
+        meterRegistry.gauge("tag.generation.queue.depth", queueDepth);
+        // 재시도를 포기한 작업 (TagGenerationJobCleaner 가 dead-retention 이 지나면 삭제)
+        meterRegistry.gauge("tag.generation.dead", deadJobs);
+    }
+
+    @Scheduled(fixedDelayString = "${tag.generation.poll-interval:PT1S}")
+    public void dispatch() {
+        queueDepth.set(tagGenerationJobRepository.countByStatusIn(List.of(Status.PENDING, Status.IN_PROGRESS)));
+        deadJobs.set(tagGenerationJobRepository.countByStatusIn(List.of(Status.DEAD)));
+
+        int available = permits.availablePermits();
+        if (available == 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Long jobId : tagGenerationJobRepository.findDueJobIds(now, PageRequest.of(0, available))) {
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            // 다른 인스턴스가 먼저 가져간 작업은 건너뜀
+            if (tagGenerationJobRepository.claim(jobId, now, now.plus(lease)) == 0) {
+                permits.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        run(jobId);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 풀에 넣지 못한 작업은 임대 만료 후 다시 가져감
+                permits.release();
+                log.warn("AI 태그 생성 작업 실행 실패, jobId: {}", jobId, e);
+                return;
+            }
+        }
+    }
+
+    void run(Long jobId) {
+        TagGenerationJob job = tagGenerationJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        Boolean isGened;
+        try {
+            isGened = aiService.genTags(job.getPlaceId(), job.getReviewText(), job.getReviewImageUrl(), job.getUserId());
+        } catch (Exception e) {
+            fail(job, e);
+            return;
+        }
+
+        if (updateStatus(job, Status.DONE, job.getNextAttemptAt(), null)) {
+            record(job, "done");
+        }
+        log.info("AI 태그 생성 완료, jobId: {}, isGened: {}", jobId, isGened);
+
+        // AI 서버가 쓴 PlaceTag 를 장소 집계, 태그 순위에 반영
+        // 여기서 실패해도 /gen_tags/ 를 다시 부르면 태그가 두 번 쌓이므로 재시도하지 않음 (각 reconcile 이 보정)
+        try {
+            placeSummaryService.refresh(job.getPlaceId());
+            tagLeaderboard.onPlaceTagsChanged(job.getPlaceId());
+        } catch (Exception e) {
+            meterRegistry.counter("tag.generation.job.hook.failure").increment();
+            log.warn("AI 태그 생성 후 집계 갱신 실패, jobId: {}, placeId: {}", jobId, job.getPlaceId(), e);
+        }
+    }
+
+    private void fail(TagGenerationJob job, Exception e) {
+        String error = truncate(e.getMessage());
+        // attempts 는 claim 에서 이미 1 증가한 값
+        int attempts = job.getAttempts();
+
+        if (attempts >= maxAttempts) {
+            if (updateStatus(job, Status.DEAD, job.getNextAttemptAt(), error)) {
+                record(job, "dead");
+            }
+            log.error("AI 태그 생성 {}회 실패, DEAD 처리, jobId: {}", attempts, job.getJobId(), e);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now(clock).plus(backoff(attempts));
+        if (!updateStatus(job, Status.PENDING, nextAttemptAt, error)) {
+            return;
+        }
+        meterRegistry.counter("tag.generation.job.retry").increment();
+        log.warn("AI 태그 생성 실패 ({}회), {} 에 재시도, jobId: {}", attempts, nextAttemptAt, job.getJobId());
+    }
+
+    // 임대가 만료돼 다른 인스턴스가 가져간 작업이면 상태를 덮어쓰지 않음
+    private boolean updateStatus(TagGenerationJob job, Status status, LocalDateTime nextAttemptAt, String error) {
+        if (tagGenerationJobRepository.updateStatus(job.getJobId(), status, nextAttemptAt, error, LocalDateTime.now(clock)) == 0) {
+            meterRegistry.counter("tag.generation.job.lease.lost").increment();
+            log.warn("AI 태그 생성 작업 임대 만료, {} 반영 안 함, jobId: {}", status, job.getJobId());
+            return false;
+        }
+        return true;
+    }
+
+    // base * 2^(attempts-1), 최대 maxBackoff
+    Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    // 등록부터 완료(또는 DEAD)까지 걸린 시간
+    private void record(TagGenerationJob job, String result) {
+        if (job.getCreatedAt() != null) {
+            meterRegistry.timer("tag.generation.job.latency", "result", result)
+                    .record(Duration.between(job.getCreatedAt(), LocalDateTime.now(clock)));
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
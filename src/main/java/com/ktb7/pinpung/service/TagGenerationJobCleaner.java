@@ -0,0 +1,73 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.TagGenerationJob.Status;
+import com.ktb7.pinpung.repository.TagGenerationJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 끝난 TagGenerationJob 삭제.
+ * outbox 는 리뷰/펑마다 한 행씩 쌓이고 리뷰 원문을 담고 있으므로, DONE 은 retention, DEAD 는 dead-retention 이 지나면
+ * jobId 순으로 batch-size 개씩 지운다.
+ */
+@Slf4j
+@Component
+public class TagGenerationJobCleaner {
+
+    private final TagGenerationJobRepository tagGenerationJobRepository;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Duration retention;
+    private final Duration deadRetention;
+    private final int batchSize;
+
+    public TagGenerationJobCleaner(TagGenerationJobRepository tagGenerationJobRepository,
+                                   MeterRegistry meterRegistry,
+                                   Clock clock,
+                                   @Value("${tag.generation.retention:P7D}") Duration retention,
+                                   @Value("${tag.generation.dead-retention:P30D}") Duration deadRetention,
+                                   @Value("${tag.generation.cleanup-batch-size:500}") int batchSize) {
+        this.tagGenerationJobRepository = tagGenerationJobRepository;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.retention = retention;
+        this.deadRetention = deadRetention;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(initialDelayString = "${tag.generation.cleanup-interval:PT1H}",
+            fixedDelayString = "${tag.generation.cleanup-interval:PT1H}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int done = delete(Status.DONE, now.minus(retention));
+        int dead = delete(Status.DEAD, now.minus(deadRetention));
+        log.info("태그 생성 작업 정리 완료: DONE {}개, DEAD {}개", done, dead);
+    }
+
+    private int delete(Status status, LocalDateTime before) {
+        int deleted = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> jobIds = tagGenerationJobRepository.findExpiredJobIds(afterId, status, before, PageRequest.of(0, batchSize));
+            if (jobIds.isEmpty()) {
+                break;
+            }
+            deleted += tagGenerationJobRepository.deleteByJobIdInAndStatus(jobIds, status);
+            afterId = jobIds.get(jobIds.size() - 1);
+            if (jobIds.size() < batchSize) {
+                break;
+            }
+        }
+        meterRegistry.counter("tag.generation.job.deleted", "status", status.name()).increment(deleted);
+        return deleted;
+    }
+}
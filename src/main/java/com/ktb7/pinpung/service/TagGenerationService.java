@@ -0,0 +1,36 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.TagGenerationJob;
+import com.ktb7.pinpung.repository.TagGenerationJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * AI 태그 생성 요청 등록.
+ * 호출한 트랜잭션(리뷰/펑 저장)과 함께 커밋되고, 실제 요청은 TagGenerationDispatcher 가 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagGenerationService {
+
+    private static final String ORIGINAL_IMAGE_URL = "https://pinpung-s3.s3.ap-northeast-2.amazonaws.com/original-images/";
+
+    private final TagGenerationJobRepository tagGenerationJobRepository;
+    private final Clock clock;
+
+    public void enqueue(Long placeId, String reviewText, Long imageId, Long userId) {
+        TagGenerationJob job = new TagGenerationJob();
+        job.setPlaceId(placeId);
+        job.setUserId(userId);
+        job.setReviewText(reviewText);
+        job.setReviewImageUrl(ORIGINAL_IMAGE_URL + imageId);
+        job.setNextAttemptAt(LocalDateTime.now(clock));
+        tagGenerationJobRepository.save(job);
+        log.info("AI 태그 생성 작업 등록, jobId: {}", job.getJobId());
+    }
+}
@@ -0,0 +1,111 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.exception.common.CustomException;
+import com.ktb7.pinpung.exception.common.ErrorCode;
+import com.ktb7.pinpung.repository.PlaceTagRepository;
+import com.ktb7.pinpung.repository.TagStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 태그 순위.
+ * 전체 기간은 TagStats(태그별 tagCount 합계)에서, 24시간/7일은 UserPlaceTag 생성 시각 기준으로 집계하고
+ * 기간별 상위 max-size 개를 메모리에 들고 있다가 요청 시 잘라서 돌려준다.
+ * 전체 기간 순위는 태그 생성 작업이 끝날 때마다 그 장소의 태그만 다시 합산해 갱신한다.
+ */
+@Slf4j
+@Service
+public class TagLeaderboard {
+
+    public enum Window {
+        ALL("all", null),
+        DAY("24h", Duration.ofDays(1)),
+        WEEK("7d", Duration.ofDays(7));
+
+        private final String param;
+        private final Duration duration;
+
+        Window(String param, Duration duration) {
+            this.param = param;
+            this.duration = duration;
+        }
+
+        public static Window from(String param) {
+            for (Window window : values()) {
+                if (window.param.equalsIgnoreCase(param)) {
+                    return window;
+                }
+            }
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER, "window 는 all, 24h, 7d 중 하나입니다.");
+        }
+    }
+
+    private final PlaceTagRepository placeTagRepository;
+    private final TagStatsRepository tagStatsRepository;
+    private final Clock clock;
+    private final int maxSize;
+    // 기간 -> 상위 태그 (불변 리스트)
+    private final Map<Window, List<String>> leaders = new ConcurrentHashMap<>();
+
+    public TagLeaderboard(PlaceTagRepository placeTagRepository,
+                          TagStatsRepository tagStatsRepository,
+                          Clock clock,
+                          @Value("${tag.leaderboard.max-size:20}") int maxSize) {
+        this.placeTagRepository = placeTagRepository;
+        this.tagStatsRepository = tagStatsRepository;
+        this.clock = clock;
+        this.maxSize = maxSize;
+    }
+
+    public List<String> top(Window window, int size) {
+        List<String> tags = leaders.computeIfAbsent(window, this::load);
+        return tags.subList(0, Math.min(Math.max(size, 0), tags.size()));
+    }
+
+    // AI 서버가 이 장소의 PlaceTag 를 바꾼 뒤 호출 (장소에 붙은 태그만 다시 합산)
+    @Transactional
+    public void onPlaceTagsChanged(Long placeId) {
+        tagStatsRepository.upsertTotals(placeTagRepository.findTagIdsByPlaceId(placeId));
+        leaders.put(Window.ALL, load(Window.ALL));
+    }
+
+    // 기간별 순위는 시간이 지나면서 빠지는 태그가 있어 주기적으로 다시 계산
+    @Scheduled(initialDelayString = "${tag.leaderboard.window-refresh-interval:PT1M}",
+            fixedDelayString = "${tag.leaderboard.window-refresh-interval:PT1M}")
+    public void refreshWindows() {
+        leaders.put(Window.DAY, load(Window.DAY));
+        leaders.put(Window.WEEK, load(Window.WEEK));
+    }
+
+    // 이벤트로 잡히지 않은 PlaceTag 변경(삭제 포함)을 맞추기 위한 전체 재계산
+    @Transactional
+    @Scheduled(initialDelayString = "${tag.leaderboard.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${tag.leaderboard.reconcile-interval:PT10M}")
+    public void reconcile() {
+        tagStatsRepository.upsertTotals(placeTagRepository.findAllTagIds());
+        tagStatsRepository.resetRemovedTags();
+        leaders.put(Window.ALL, load(Window.ALL));
+        log.info("태그 순위 전체 재계산 완료, 상위 태그: {}", leaders.get(Window.ALL));
+    }
+
+    private List<String> load(Window window) {
+        PageRequest limit = PageRequest.of(0, maxSize);
+        if (window.duration == null) {
+            return List.copyOf(tagStatsRepository.findTopTagNames(limit));
+        }
+        LocalDateTime since = LocalDateTime.now(clock).minus(window.duration);
+        return List.copyOf(placeTagRepository.findTopTagNamesSince(since, limit));
+    }
+}
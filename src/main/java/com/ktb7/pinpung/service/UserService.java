@@ -5,6 +5,7 @@ import com.ktb7.pinpung.dto.Review.MessageResponseDto;
 import com.ktb7.pinpung.dto.User.TasteRequestDto;
 import com.ktb7.pinpung.entity.Review;
 import com.ktb7.pinpung.entity.User;
+import com.ktb7.pinpung.entity.UserStats;
 import com.ktb7.pinpung.entity.UserActivity;
 import com.ktb7.pinpung.entity.UserMenu;
 import com.ktb7.pinpung.exception.common.CustomException;
@@ -25,12 +26,12 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final FollowRepository followRepository;
     private final PungRepository pungRepository;
     private final ReviewRepository reviewRepository;
     private final PlaceRepository placeRepository;
     private final UserActivityRepository userActivityRepository;
     private final UserMenuRepository userMenuRepository;
+    private final UserStatsService userStatsService;
 
 
     public ProfileWithPungResponseDto viewProfileWithPung(Long userId) {
@@ -81,21 +82,17 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, ErrorCode.USER_NOT_FOUND));
 
-        // 팔로워 및 팔로잉 정보 조회
-        List<User> followers = followRepository.findFollowersByUserId(userId);
-        List<User> followings = followRepository.findFollowingsByUserId(userId);
-
-        Long reviewCount = reviewRepository.countByUserId(userId);
-        Long pungCount = pungRepository.countByUserId(userId);
+        // 팔로워/팔로잉/펑/리뷰 수는 UserStats 카운터 사용
+        UserStats stats = userStatsService.getStats(userId);
 
         // DefaultProfileDto 반환
         return new DefaultProfileDto(
                 user.getUserId(),
                 user.getUserName(),
-                followers.size(),
-                followings.size(),
-                pungCount,
-                reviewCount
+                Math.toIntExact(stats.getFollowerCount()),
+                Math.toIntExact(stats.getFollowingCount()),
+                stats.getPungCount(),
+                stats.getReviewCount()
         );
     }
 
@@ -0,0 +1,53 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 UserStats 를 주기적으로 원본 테이블 COUNT 로 다시 계산.
+ * 카운터 증감이 빠진 경우(직접 DB 수정, 배포 전 데이터 등)를 맞추고 행이 없는 사용자도 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatsReconciler {
+
+    private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.stats.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${user.stats.reconcile-initial-delay:PT2M}",
+            fixedDelayString = "${user.stats.reconcile-interval:PT1H}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        long afterId = 0L;
+        int total = 0;
+        List<Long> userIds;
+
+        do {
+            userIds = userRepository.findUserIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            userStatsService.recompute(userIds);
+            afterId = userIds.get(userIds.size() - 1);
+            total += userIds.size();
+        } while (userIds.size() == batchSize);
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("user.stats.reconcile").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("UserStats 재계산 완료: {}명, {}ms", total, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+}
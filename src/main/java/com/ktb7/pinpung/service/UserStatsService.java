@@ -0,0 +1,73 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.UserStats;
+import com.ktb7.pinpung.repository.UserStatsRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * UserStats 읽기/증감/재계산.
+ * 증감은 호출한 서비스의 트랜잭션 안에서 UPDATE 한 번으로 처리하고,
+ * 행이 아직 없는 사용자는 원본 테이블 COUNT 로 upsert 해서 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public UserStats getStats(Long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseGet(() -> {
+                    recompute(List.of(userId));
+                    return userStatsRepository.findById(userId).orElseThrow();
+                });
+    }
+
+    // follower 가 following 을 팔로우 (delta = 1) / 언팔로우 (delta = -1)
+    @Transactional
+    public void addFollow(Long followerId, Long followingId, long delta) {
+        add(followingId, delta, userStatsRepository::addFollowerCount);
+        add(followerId, delta, userStatsRepository::addFollowingCount);
+    }
+
+    @Transactional
+    public void addPung(Long userId, long delta) {
+        add(userId, delta, userStatsRepository::addPungCount);
+    }
+
+    @Transactional
+    public void addReview(Long userId, long delta) {
+        add(userId, delta, userStatsRepository::addReviewCount);
+    }
+
+    /**
+     * 원본 테이블 기준으로 다시 계산해 저장 (사용자마다 INSERT ... ON DUPLICATE KEY UPDATE 한 문장).
+     * 같은 트랜잭션에서 아직 flush 되지 않은 Follow/Pung/Review 변경도 반영되도록 먼저 flush
+     */
+    @Transactional
+    public void recompute(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        userStatsRepository.upsertCounts(userIds);
+    }
+
+    private void add(Long userId, long delta, ToIntBiFunction<Long, Long> update) {
+        if (update.applyAsInt(userId, delta) == 0) {
+            // 아직 행이 없으면 방금 쓴 변경까지 포함해 COUNT 로 생성
+            recompute(List.of(userId));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ktb7.pinpung.util;
+
+import com.ktb7.pinpung.exception.common.CustomException;
+import com.ktb7.pinpung.exception.common.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서 인코딩.
+ * 마지막으로 내려준 행의 id 를 URL-safe Base64 로 감싸서 클라이언트에는 불투명한 문자열로 전달한다.
+ */
+public final class CursorUtils {
+
+    private static final String PREFIX = "id:";
+
+    private CursorUtils() {
+    }
+
+    public static String encode(Long lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null (첫 페이지)
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(decoded);
+            }
+            long id = Long.parseLong(decoded.substring(PREFIX.length()));
+            if (id <= 0) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER, "유효하지 않은 커서입니다.");
+        }
+    }
+}
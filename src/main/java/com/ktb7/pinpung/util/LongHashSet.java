@@ -0,0 +1,182 @@
+package com.ktb7.pinpung.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * long 전용 해시 집합 (open addressing, linear probing).
+ * HashSet&lt;Long&gt; 은 원소마다 Long 객체와 노드를 만들어 원소당 수십 바이트를 쓰지만,
+ * 여기서는 long[] 하나에 저장해 원소당 약 8~16바이트로 유지한다.
+ * 0 은 빈 칸 표시로 쓰므로 별도 플래그로 관리한다. 스레드 안전하지 않음.
+ */
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 8;
+    // 원소 수가 table 길이의 절반을 넘으면 두 배로 늘림
+    private static final int MAX_LOAD_PERCENT = 50;
+
+    private long[] table;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        this.table = new long[capacityFor(expectedSize)];
+    }
+
+    public static LongHashSet of(long... values) {
+        LongHashSet set = new LongHashSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public static LongHashSet copyOf(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        for (Long value : values) {
+            if (value != null) {
+                set.add(value);
+            }
+        }
+        return set;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        for (int i = index(value, mask); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == value) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    // null 은 포함되지 않은 것으로 본다
+    public boolean contains(Long value) {
+        return value != null && contains(value.longValue());
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = table.length - 1;
+        int i = index(value, mask);
+        while (table[i] != EMPTY) {
+            if (table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+        size++;
+        if ((long) size * 100 > (long) table.length * MAX_LOAD_PERCENT) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int mask = table.length - 1;
+        int i = index(value, mask);
+        while (table[i] != value) {
+            if (table[i] == EMPTY) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = EMPTY;
+        size--;
+        shiftBack(i, mask);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public LongHashSet copy() {
+        LongHashSet copy = new LongHashSet(MIN_CAPACITY);
+        copy.table = Arrays.copyOf(table, table.length);
+        copy.size = size;
+        copy.containsZero = containsZero;
+        return copy;
+    }
+
+    // 대략적인 힙 사용량 (객체 헤더 + 배열)
+    public long estimatedBytes() {
+        return 32L + 16L + (long) table.length * Long.BYTES;
+    }
+
+    // 삭제한 칸 뒤의 원소를 앞으로 당겨 탐색 체인이 끊기지 않게 함 (tombstone 없음)
+    private void shiftBack(int removed, int mask) {
+        int gap = removed;
+        for (int i = (removed + 1) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            int home = index(table[i], mask);
+            // home 이 (gap, i] 구간 밖이면 gap 으로 옮겨도 탐색 가능
+            boolean between = gap <= i ? (gap < home && home <= i) : (gap < home || home <= i);
+            if (!between) {
+                table[gap] = table[i];
+                table[i] = EMPTY;
+                gap = i;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] old = table;
+        table = new long[newCapacity];
+        int mask = newCapacity - 1;
+        for (long value : old) {
+            if (value != EMPTY) {
+                int i = index(value, mask);
+                while (table[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = value;
+            }
+        }
+    }
+
+    private static int index(long value, int mask) {
+        // 연속된 id 가 한쪽으로 몰리지 않도록 섞음 (fmix64)
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) expectedSize * 100 / MAX_LOAD_PERCENT + 1);
+        return (int) Math.min(1 << 30, Long.highestOneBit(needed - 1) << 1);
+    }
+}
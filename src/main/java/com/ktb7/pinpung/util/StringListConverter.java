@@ -0,0 +1,43 @@
+package com.ktb7.pinpung.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// List<String> <-> JSON 배열 문자열 컬럼
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        return toJson(attribute);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return MAPPER.readValue(dbData, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 배열 변환 실패: " + dbData, e);
+        }
+    }
+
+    public static String toJson(List<String> values) {
+        try {
+            return MAPPER.writeValueAsString(values == null ? List.of() : values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 배열 변환 실패", e);
+        }
+    }
+}
@@ -72,6 +72,13 @@ public class ValidationUtils {
 //        }
     }
 
+    // 페이지 크기의 유효성을 검사하는 메서드
+    public static void validatePageSize(Integer size) {
+        if (size == null || size <= 0 || size > 100) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER);
+        }
+    }
+
     // userId와 placeId의 유효성을 검사하는 메서드
     public static void validateUserAndPlaceId(Long userId, Long placeId) {
         validateUserId(userId);
@@ -0,0 +1,38 @@
+package com.ktb7.pinpung.oauth2.resolver;
+
+import com.ktb7.pinpung.exception.common.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuthenticatedUserArgumentResolverTest {
+
+    private final AuthenticatedUserArgumentResolver resolver = new AuthenticatedUserArgumentResolver();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("SecurityContext 의 userId 를 그대로 반환 (카카오 재호출 없음)")
+    void testResolveFromSecurityContext() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(7L, null, Collections.emptyList()));
+
+        assertEquals(7L, resolver.resolveArgument(null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없으면 401")
+    void testResolveWithoutAuthentication() {
+        assertThrows(CustomException.class, () -> resolver.resolveArgument(null, null, null, null));
+    }
+}
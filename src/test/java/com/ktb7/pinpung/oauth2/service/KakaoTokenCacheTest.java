@@ -0,0 +1,54 @@
+package com.ktb7.pinpung.oauth2.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KakaoTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private KakaoTokenCache kakaoTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        kakaoTokenCache = new KakaoTokenCache(meterRegistry, 100, 300);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰은 userId를 바로 반환")
+    void testPutAndGet() {
+        kakaoTokenCache.put("token-a", 1L, 21599);
+
+        assertEquals(Optional.of(1L), kakaoTokenCache.getUserId("token-a"));
+        assertTrue(kakaoTokenCache.getUserId("token-b").isEmpty());
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("expires_in 이 없거나 0 이하면 캐시하지 않음")
+    void testNotCachedWithoutExpiry() {
+        kakaoTokenCache.put("token-a", 1L, null);
+        kakaoTokenCache.put("token-b", 2L, 0);
+
+        assertTrue(kakaoTokenCache.getUserId("token-a").isEmpty());
+        assertTrue(kakaoTokenCache.getUserId("token-b").isEmpty());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 토큰 제거")
+    void testEvict() {
+        kakaoTokenCache.put("token-a", 1L, 21599);
+        kakaoTokenCache.evict("token-a");
+
+        assertTrue(kakaoTokenCache.getUserId("token-a").isEmpty());
+    }
+}
@@ -0,0 +1,28 @@
+package com.ktb7.pinpung.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 기록 (QueryPlanTest 에서 EXPLAIN 대상으로 사용).
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ktb7.pinpung.repository;
+
+import com.ktb7.pinpung.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 자주 쓰는 리포지토리 쿼리가 인덱스를 타는지 확인.
+ * 리포지토리 메서드를 실제로 호출해 Hibernate 가 만든 SQL 을 잡고, 같은 파라미터로 EXPLAIN 해서
+ * 실행 계획에 전체 테이블 스캔(H2 의 tableScan)이 있으면 실패한다.
+ * 내장 DB 는 MySQL 호환 모드 H2 를 사용한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.ktb7.pinpung.repository.CapturingStatementInspector")
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTest {
+
+    private static final int ROWS = 500;
+
+    @Autowired
+    private PungRepository pungRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private PlaceTagRepository placeTagRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 옵티마이저가 인덱스를 고를 수 있을 만큼 데이터 적재
+        jdbcTemplate.update("INSERT INTO User (userName, age) SELECT 'user' || X, 20 FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.update("INSERT INTO Tag (tagName) SELECT 'tag' || X FROM SYSTEM_RANGE(1, 50)");
+        jdbcTemplate.update("INSERT INTO Pung (userId, placeId, isReview, createdAt, updatedAt) " +
+                "SELECT MOD(X, 50) + 1, MOD(X, 100) + 1, MOD(X, 2) = 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.update("INSERT INTO Review (userId, placeId, text, createdAt, updatedAt) " +
+                "SELECT MOD(X, 50) + 1, MOD(X, 100) + 1, 'review', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.update("INSERT INTO PlaceTag (tagId, placeId, tagCount, isRepresentative) " +
+                "SELECT (SELECT MIN(id) FROM Tag) + MOD(X, 50), MOD(X, 100) + 1, 1, TRUE FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.update("INSERT INTO Follow (follower_id, following_id) " +
+                "SELECT (SELECT MIN(id) FROM User) + MOD(X, 100), (SELECT MIN(id) FROM User) + MOD(X * 7, 100) FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.update("INSERT INTO Place (kakaoPlaceId, placeName, address, x, y, lng, lat) " +
+                "SELECT 'kakao' || X, 'place', 'address', '127', '37', 127 + MOD(X, 100) * 0.001, 37 + X * 0.0001 FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("핫 쿼리는 전체 테이블 스캔 없이 인덱스로 실행")
+    void testHotQueriesUseIndexes() {
+        User user = entityManager.find(User.class, firstUserId());
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+
+        List<String> violations = new ArrayList<>();
+        check(violations, "PungRepository.findFirstByPlaceIdAndIsReviewFalseOrderByPungIdDesc",
+                () -> pungRepository.findFirstByPlaceIdAndIsReviewFalseOrderByPungIdDesc(1L), 1L);
+        check(violations, "PungRepository.findByPlaceIdAndIsReviewFalse",
+                () -> pungRepository.findByPlaceIdAndIsReviewFalse(1L, PageRequest.of(0, 3)), 1L);
+        check(violations, "PungRepository.findByUserId",
+                () -> pungRepository.findByUserId(1L, PageRequest.of(0, 3)), 1L);
+        check(violations, "PungRepository.findReviewTargetIdRange",
+                () -> pungRepository.findReviewTargetIdRange(yesterday), yesterday);
+        check(violations, "ReviewRepository.findTopByPlaceIdOrderByCreatedAtDesc",
+                () -> reviewRepository.findTopByPlaceIdOrderByCreatedAtDesc(1L), 1L);
+        check(violations, "ReviewRepository.findByPlaceId",
+                () -> reviewRepository.findByPlaceId(1L), 1L);
+        check(violations, "PlaceTagRepository.findPlaceIdsByTagNameAndPlaceIdIn",
+                () -> placeTagRepository.findPlaceIdsByTagNameAndPlaceIdIn("tag1", List.of(1L, 2L, 3L)), "tag1", 1L, 2L, 3L);
+        check(violations, "PlaceRepository.findIdsInBoundingBox",
+                () -> placeRepository.findIdsInBoundingBox(127.0, 37.0, 127.01, 37.005, 127.005, 37.0025, 0.8, PageRequest.of(0, 45)),
+                37.0, 37.005, 127.0, 127.01, 127.005, 127.005, 0.8, 0.8, 37.0025, 37.0025);
+        check(violations, "PlaceTagRepository.findPlaceIdsUpdatedSince",
+                () -> placeTagRepository.findPlaceIdsUpdatedSince(yesterday), yesterday);
+        check(violations, "TagRepository.findTagNamesByPlaceId",
+                () -> tagRepository.findTagNamesByPlaceId(1L), 1L);
+        check(violations, "FollowRepository.findFollowersPage",
+                () -> followRepository.findFollowersPage(user.getUserId(), Long.MAX_VALUE, PageRequest.of(0, 21)),
+                user.getUserId(), Long.MAX_VALUE);
+        check(violations, "FollowRepository.findFollowerIdsByUserId",
+                () -> followRepository.findFollowerIdsByUserId(user.getUserId()), user.getUserId());
+        check(violations, "FollowRepository.findFollowingsPage",
+                () -> followRepository.findFollowingsPage(user.getUserId(), Long.MAX_VALUE, PageRequest.of(0, 21)),
+                user.getUserId(), Long.MAX_VALUE);
+
+        if (!violations.isEmpty()) {
+            fail("전체 테이블 스캔:\n" + String.join("\n\n", violations));
+        }
+    }
+
+    // 호출 중 실행된 SQL 을 모두 EXPLAIN (params 가 부족하면 LIMIT/OFFSET 등으로 보고 1 로 채움)
+    private void check(List<String> violations, String name, Runnable query, Object... params) {
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+        query.run();
+
+        List<String> statements = CapturingStatementInspector.statements();
+        assertFalse(statements.isEmpty(), name + " 실행된 SQL 없음");
+
+        for (String sql : statements) {
+            String plan = explain(sql, params);
+            if (plan.contains("tableScan")) {
+                violations.add(name + "\n" + plan);
+            }
+        }
+    }
+
+    private String explain(String sql, Object[] params) {
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] args = new Object[placeholders];
+        for (int i = 0; i < placeholders; i++) {
+            args[i] = i < params.length ? params[i] : 1;
+        }
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private Long firstUserId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM User", Long.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.dto.Follow.FollowsResponseDto;
+import com.ktb7.pinpung.dto.Follow.SimpleUserDto;
+import com.ktb7.pinpung.entity.Follow;
+import com.ktb7.pinpung.entity.User;
+import com.ktb7.pinpung.exception.common.CustomException;
+import com.ktb7.pinpung.util.RepositoryHelper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({FollowService.class, RepositoryHelper.class, UserStatsService.class})
+class FollowServiceTest {
+
+    @Autowired
+    private FollowService followService;
+    @Autowired
+    private EntityManager entityManager;
+    @MockBean
+    private FollowerIdCache followerIdCache;
+
+    private User celebrity;
+    private final List<User> fans = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        celebrity = persistUser("celebrity");
+        for (int i = 0; i < 5; i++) {
+            User fan = persistUser("fan" + i);
+            fans.add(fan);
+
+            Follow follow = new Follow();
+            follow.setFollower(fan);
+            follow.setFollowing(celebrity);
+            entityManager.persist(follow);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 최근 팔로우 순으로 중복/누락 없이 끝까지 조회")
+    void testFollowersKeysetPages() {
+        FollowsResponseDto first = followService.getFollowers(celebrity.getUserId(), null, 2);
+        FollowsResponseDto second = followService.getFollowers(celebrity.getUserId(), first.getNextCursor(), 2);
+        FollowsResponseDto last = followService.getFollowers(celebrity.getUserId(), second.getNextCursor(), 2);
+
+        assertEquals(5, first.getCount());
+        assertEquals(List.of("fan4", "fan3"), names(first));
+        assertEquals(List.of("fan2", "fan1"), names(second));
+        assertEquals(List.of("fan0"), names(last));
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("페이지 사이에 새 팔로우가 생겨도 다음 페이지는 밀리지 않음")
+    void testStableCursor() {
+        FollowsResponseDto first = followService.getFollowers(celebrity.getUserId(), null, 2);
+
+        User newcomer = persistUser("newcomer");
+        Follow follow = new Follow();
+        follow.setFollower(newcomer);
+        follow.setFollowing(entityManager.find(User.class, celebrity.getUserId()));
+        entityManager.persist(follow);
+        entityManager.flush();
+
+        FollowsResponseDto second = followService.getFollowers(celebrity.getUserId(), first.getNextCursor(), 2);
+        assertEquals(List.of("fan2", "fan1"), names(second));
+    }
+
+    @Test
+    @DisplayName("팔로잉 목록도 같은 방식으로 조회")
+    void testFollowings() {
+        FollowsResponseDto followings = followService.getFollowings(fans.get(0).getUserId(), null, 20);
+
+        assertEquals(1, followings.getCount());
+        assertEquals(List.of("celebrity"), names(followings));
+        assertNull(followings.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400")
+    void testInvalidCursor() {
+        assertThrows(CustomException.class, () -> followService.getFollowers(celebrity.getUserId(), "not-a-cursor", 2));
+    }
+
+    private List<String> names(FollowsResponseDto response) {
+        return response.getFollows().stream().map(SimpleUserDto::getUsername).toList();
+    }
+
+    private User persistUser(String userName) {
+        User user = new User();
+        user.setUserName(userName);
+        user.setAge(20);
+        entityManager.persist(user);
+        return user;
+    }
+}
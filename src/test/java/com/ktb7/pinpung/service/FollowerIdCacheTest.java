@@ -0,0 +1,80 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.repository.FollowRepository;
+import com.ktb7.pinpung.util.LongHashSet;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FollowerIdCacheTest {
+
+    private FollowRepository followRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private FollowerIdCache followerIdCache;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        followRepository = mock(FollowRepository.class);
+        when(followRepository.findFollowerIdsByUserId(1L)).thenReturn(List.of(2L, 3L));
+        meterRegistry = new SimpleMeterRegistry();
+        followerIdCache = new FollowerIdCache(followRepository, meterRegistry, DataSize.ofMegabytes(1), Duration.ofMinutes(5), (Ticker) nanos::get);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 팔로워 집합은 다시 조회하지 않음")
+    void testCached() {
+        assertTrue(followerIdCache.get(1L).contains(2L));
+        assertFalse(followerIdCache.get(1L).contains(4L));
+
+        verify(followRepository, times(1)).findFollowerIdsByUserId(1L);
+        assertTrue(followerIdCache.estimatedBytes(1L) > 0);
+        assertEquals(1, meterRegistry.get("follower.id.cache.entry.bytes").summary().count());
+    }
+
+    @Test
+    @DisplayName("팔로우/언팔로우는 쿼리 없이 캐시된 집합에 반영, 이전에 받은 집합은 그대로")
+    void testUpdatedOnFollow() {
+        LongHashSet before = followerIdCache.get(1L);
+
+        followerIdCache.onFollow(4L, 1L, true);
+        followerIdCache.onFollow(2L, 1L, false);
+
+        LongHashSet after = followerIdCache.get(1L);
+        assertTrue(after.contains(4L));
+        assertFalse(after.contains(2L));
+        assertTrue(before.contains(2L));
+        verify(followRepository, times(1)).findFollowerIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 뒤 ttl 이 지나면 다시 읽음 (로컬 반영으로 만료가 늦춰지지 않음)")
+    void testExpireAfterLoad() {
+        followerIdCache.get(1L);
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        followerIdCache.onFollow(4L, 1L, true);
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertFalse(followerIdCache.get(1L).contains(4L));
+        verify(followRepository, times(2)).findFollowerIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자의 팔로우는 무시하고 다음 조회 때 DB 에서 읽음")
+    void testFollowNotCached() {
+        followerIdCache.onFollow(4L, 5L, true);
+
+        assertEquals(0L, followerIdCache.estimatedBytes(5L));
+        verifyNoInteractions(followRepository);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Image;
+import com.ktb7.pinpung.repository.ImageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ImageDerivativeReconcilerTest {
+
+    @Autowired
+    private ImageRepository imageRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private ImageDerivativeService imageDerivativeService;
+    private ImageDerivativeReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        imageDerivativeService = mock(ImageDerivativeService.class);
+        // 방금 저장한 이미지도 grace 가 지난 것으로 보이도록 1시간 뒤
+        Clock clock = Clock.fixed(Instant.now().plus(Duration.ofHours(1)), ZoneId.systemDefault());
+
+        reconciler = new ImageDerivativeReconciler(imageRepository, imageDerivativeService, new SimpleMeterRegistry(),
+                clock, 2, Duration.ofMinutes(10), 3);
+    }
+
+    @Test
+    @DisplayName("축소본 없는 이미지를 imageId 순으로 재등록하고, 끝까지 가면 처음부터")
+    void testResubmitInBatches() {
+        Long first = persistImage(null, 0, false);
+        Long second = persistImage(null, 0, false);
+        Long third = persistImage(null, 0, false);
+        persistImage("thumbnails/done", 0, false);
+        when(imageDerivativeService.submit(any())).thenReturn(true);
+
+        reconciler.reconcile();
+        reconciler.reconcile();
+        reconciler.reconcile();
+
+        assertEquals(List.of(first, second, third, first, second), submittedIds(5));
+    }
+
+    @Test
+    @DisplayName("대기열이 차면 멈추고 다음 실행에서 그 이미지부터")
+    void testStopWhenRejected() {
+        Long first = persistImage(null, 0, false);
+        Long second = persistImage(null, 0, false);
+        when(imageDerivativeService.submit(any())).thenReturn(true, false, true);
+
+        reconciler.reconcile();
+        reconciler.reconcile();
+
+        assertEquals(List.of(first, second, second), submittedIds(3));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이거나 max-failures 번 실패한 이미지는 다시 등록하지 않음")
+    void testSkipFailedImages() {
+        persistImage(null, 1, true);
+        persistImage(null, 3, false);
+        Long retry = persistImage(null, 2, false);
+        when(imageDerivativeService.submit(any())).thenReturn(true);
+
+        reconciler.reconcile();
+        reconciler.reconcile();
+
+        assertEquals(List.of(retry, retry), submittedIds(2));
+    }
+
+    private Long persistImage(String thumbnailKey, int failures, boolean unsupported) {
+        Image image = new Image();
+        image.setPureImageKey("original-images/x");
+        image.setThumbnailKey(thumbnailKey);
+        image.setDerivativeFailures(failures);
+        image.setDerivativeUnsupported(unsupported);
+        entityManager.persist(image);
+        return image.getImageId();
+    }
+
+    private List<Long> submittedIds(int times) {
+        ArgumentCaptor<Image> captor = ArgumentCaptor.forClass(Image.class);
+        verify(imageDerivativeService, times(times)).submit(captor.capture());
+        return captor.getAllValues().stream().map(Image::getImageId).toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Image;
+import com.ktb7.pinpung.repository.ImageRepository;
+import com.ktb7.pinpung.repository.PlaceSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ImageDerivativeServiceTest {
+
+    private S3Service s3Service;
+    private ImageRepository imageRepository;
+    private PlaceSummaryRepository placeSummaryRepository;
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = mock(S3Service.class);
+        imageRepository = mock(ImageRepository.class);
+        placeSummaryRepository = mock(PlaceSummaryRepository.class);
+        executor = mock(ThreadPoolTaskExecutor.class);
+        meterRegistry = new SimpleMeterRegistry();
+        imageDerivativeService = new ImageDerivativeService(s3Service, imageRepository, placeSummaryRepository, executor,
+                meterRegistry, 480, 128, 0.8f);
+    }
+
+    @Test
+    @DisplayName("긴 변 기준으로 비율을 유지해 축소하고 작은 이미지는 그대로")
+    void testResize() {
+        BufferedImage landscape = ImageDerivativeService.resize(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 480);
+        assertEquals(480, landscape.getWidth());
+        assertEquals(360, landscape.getHeight());
+
+        BufferedImage small = ImageDerivativeService.resize(new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB), 480);
+        assertEquals(100, small.getWidth());
+        assertEquals(50, small.getHeight());
+    }
+
+    @Test
+    @DisplayName("원본으로 썸네일/마커를 만들어 업로드하고 키를 기록")
+    void testGenerate() throws Exception {
+        when(s3Service.download("uploaded-images/1")).thenReturn(png(2000, 1000));
+
+        imageDerivativeService.generate(1L, "uploaded-images/1");
+
+        ArgumentCaptor<byte[]> thumbnail = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> marker = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).upload(eq("thumbnails/1"), thumbnail.capture(), eq("image/jpeg"));
+        verify(s3Service).upload(eq("markers/1"), marker.capture(), eq("image/jpeg"));
+        verify(imageRepository).updateDerivativeKeys(1L, "thumbnails/1", "markers/1");
+        verify(placeSummaryRepository).updateRepresentativeDerivativeKeys(1L, "thumbnails/1", "markers/1");
+
+        assertEquals(480, ImageIO.read(new ByteArrayInputStream(thumbnail.getValue())).getWidth());
+        assertEquals(128, ImageIO.read(new ByteArrayInputStream(marker.getValue())).getWidth());
+        assertEquals(1, meterRegistry.get("image.derivative").tag("result", "done").timer().count());
+    }
+
+    @Test
+    @DisplayName("화면에 보이는 이미지(텍스트 합성본 우선)로 작업을 등록하고, 대기열이 차면 false")
+    void testSubmit() {
+        Image pung = image(1L, "uploaded-images/1", "original-images/1");
+        Image review = image(2L, null, "original-images/2");
+        assertEquals("uploaded-images/1", ImageDerivativeService.sourceKey(pung));
+        assertEquals("original-images/2", ImageDerivativeService.sourceKey(review));
+
+        assertTrue(imageDerivativeService.submit(pung));
+        doThrow(new TaskRejectedException("full")).when(executor).execute(any(Runnable.class));
+        assertFalse(imageDerivativeService.submit(review));
+        assertEquals(1, meterRegistry.get("image.derivative").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 형식이면 축소본 없이 종료")
+    void testUnsupported() {
+        when(s3Service.download(any())).thenReturn(new byte[]{1, 2, 3});
+
+        imageDerivativeService.generate(1L, "original-images/1");
+
+        verify(s3Service, never()).upload(any(), any(), any());
+        verify(imageRepository, never()).updateDerivativeKeys(any(), any(), any());
+        verify(imageRepository).recordDerivativeFailure(1L, true);
+        assertEquals(1, meterRegistry.get("image.derivative").tag("result", "unsupported").timer().count());
+    }
+
+    @Test
+    @DisplayName("내려받기/업로드가 실패하면 실패 횟수를 기록")
+    void testFailure() {
+        when(s3Service.download(any())).thenThrow(new IllegalStateException("s3"));
+
+        imageDerivativeService.generate(1L, "original-images/1");
+
+        verify(imageRepository).recordDerivativeFailure(1L, false);
+        assertEquals(1, meterRegistry.get("image.derivative").tag("result", "failed").timer().count());
+    }
+
+    private static Image image(Long imageId, String imageTextKey, String pureImageKey) {
+        Image image = new Image();
+        image.setImageId(imageId);
+        image.setImageTextKey(imageTextKey);
+        image.setPureImageKey(pureImageKey);
+        return image;
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", output);
+        return output.toByteArray();
+    }
+}
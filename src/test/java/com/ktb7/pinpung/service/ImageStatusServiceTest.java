@@ -0,0 +1,68 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Image;
+import com.ktb7.pinpung.repository.ImageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ImageStatusServiceTest {
+
+    private ImageRepository imageRepository;
+    private ImageStatusService imageStatusService;
+
+    @BeforeEach
+    void setUp() {
+        imageRepository = mock(ImageRepository.class);
+        imageStatusService = new ImageStatusService(imageRepository, Clock.systemDefaultZone(), new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    @DisplayName("업로드된 이미지는 한 번만 조회하고 이후 캐시 사용")
+    void testAvailableCached() {
+        Image image = new Image();
+        image.setImageId(1L);
+        imageStatusService.markUploaded(image, new MockMultipartFile("image", "a.jpg", "image/jpeg", new byte[10]));
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+
+        assertTrue(imageStatusService.isAvailable(1L));
+        assertTrue(imageStatusService.isAvailable(1L));
+
+        verify(imageRepository, times(1)).findById(1L);
+        assertEquals("image/jpeg", image.getContentType());
+        assertEquals(10L, image.getSizeBytes());
+    }
+
+    @Test
+    @DisplayName("누락 표시되었거나 업로드 기록이 없으면 사용할 수 없음")
+    void testUnavailable() {
+        Image missing = new Image();
+        missing.setImageTextKey("uploaded-images/2");
+        missing.setMissing(true);
+        when(imageRepository.findById(2L)).thenReturn(Optional.of(missing));
+        when(imageRepository.findById(3L)).thenReturn(Optional.of(new Image()));
+
+        assertFalse(imageStatusService.isAvailable(2L));
+        assertFalse(imageStatusService.isAvailable(3L));
+        assertFalse(imageStatusService.isAvailable(4L));
+        assertFalse(imageStatusService.isAvailable(null));
+    }
+
+    @Test
+    @DisplayName("uploadedAt 이 없는 기존 행은 키가 있으면 업로드된 것으로 봄")
+    void testLegacyRow() {
+        Image legacy = new Image();
+        legacy.setImageTextKey("uploaded-images/5");
+        legacy.setMissing(null);
+
+        assertTrue(ImageStatusService.isUploaded(legacy));
+    }
+}
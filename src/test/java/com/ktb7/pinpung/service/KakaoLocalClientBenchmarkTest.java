@@ -0,0 +1,116 @@
+package com.ktb7.pinpung.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카카오 로컬 API 스텁(페이지당 지연 100ms, 3페이지)으로 직렬/병렬 페이지 조회 지연 시간 비교.
+ */
+@Tag("benchmark")
+class KakaoLocalClientBenchmarkTest {
+
+    private static final long UPSTREAM_DELAY_MS = 100;
+    private static final int ITERATIONS = 10;
+    private static final Pattern PAGE_PATTERN = Pattern.compile("page=(\\d+)");
+
+    private HttpServer server;
+    private KakaoLocalClient serialClient;
+    private KakaoLocalClient parallelClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/v2/local/search/keyword.json", exchange -> {
+            Matcher matcher = PAGE_PATTERN.matcher(exchange.getRequestURI().getQuery());
+            int page = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+            try {
+                Thread.sleep(UPSTREAM_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] body = pageBody(page).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .build();
+        serialClient = new KakaoLocalClient(webClient, "test-key", false, 2);
+        parallelClient = new KakaoLocalClient(webClient, "test-key", true, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("직렬 vs 병렬 페이지 조회 지연 시간")
+    void compareSerialAndParallel() {
+        // 워밍업
+        serialClient.categorySearch("카페", null, null, null, null, null, null, "accuracy");
+        parallelClient.categorySearch("카페", null, null, null, null, null, null, "accuracy");
+
+        long serialNanos = 0;
+        long parallelNanos = 0;
+        List<Map<String, Object>> serialResult = null;
+        List<Map<String, Object>> parallelResult = null;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            serialResult = serialClient.categorySearch("카페", null, null, null, null, null, null, "accuracy");
+            serialNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            parallelResult = parallelClient.categorySearch("카페", null, null, null, null, null, null, "accuracy");
+            parallelNanos += System.nanoTime() - start;
+        }
+
+        double serialMs = serialNanos / 1_000_000.0 / ITERATIONS;
+        double parallelMs = parallelNanos / 1_000_000.0 / ITERATIONS;
+        System.out.printf("categorySearch 3 pages: serial %.1f ms, parallel %.1f ms%n", serialMs, parallelMs);
+
+        // 결과와 순서는 동일해야 함
+        assertEquals(45, parallelResult.size());
+        assertEquals(serialResult.stream().map(doc -> doc.get("id")).toList(),
+                parallelResult.stream().map(doc -> doc.get("id")).toList());
+        assertTrue(parallelMs < serialMs);
+    }
+
+    private static String pageBody(int page) {
+        StringBuilder documents = new StringBuilder();
+        for (int i = 0; i < 15; i++) {
+            if (i > 0) documents.append(",");
+            String id = String.valueOf(page * 100 + i);
+            documents.append("{\"id\":\"").append(id)
+                    .append("\",\"place_name\":\"카페").append(id)
+                    .append("\",\"road_address_name\":\"주소\",\"x\":\"127.1\",\"y\":\"37.4\"}");
+        }
+        return "{\"meta\":{\"total_count\":45,\"pageable_count\":45,\"is_end\":" + (page >= 3)
+                + "},\"documents\":[" + documents + "]}";
+    }
+}
@@ -0,0 +1,122 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.LocationKeywordDecision;
+import com.ktb7.pinpung.repository.LocationKeywordDecisionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LocationDecisionCacheTest {
+
+    private LocationKeywordDecisionRepository decisionRepository;
+    private LocationDecisionCache locationDecisionCache;
+
+    @BeforeEach
+    void setUp() {
+        decisionRepository = mock(LocationKeywordDecisionRepository.class);
+        when(decisionRepository.findByKeyword(anyString())).thenReturn(Optional.empty());
+        locationDecisionCache = new LocationDecisionCache(decisionRepository, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    @DisplayName("공백/대소문자/전각 차이는 같은 키워드로 정규화")
+    void testNormalize() {
+        assertEquals("abc 카페", LocationDecisionCache.normalize("  ＡＢＣ   카페 "));
+        assertEquals("하나", LocationDecisionCache.normalize("\u1112\u1161\u1102\u1161"));
+    }
+
+    @Test
+    @DisplayName("한 번 판단한 키워드는 GPT 를 다시 호출하지 않고 DB 에 저장")
+    void testMemoized() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertTrue(locationDecisionCache.get("유스페이스몰", keyword -> {
+            calls.incrementAndGet();
+            return true;
+        }));
+        assertTrue(locationDecisionCache.get(" 유스페이스몰 ", keyword -> {
+            calls.incrementAndGet();
+            return false;
+        }));
+
+        assertEquals(1, calls.get());
+        verify(decisionRepository, times(1)).save(any(LocationKeywordDecision.class));
+    }
+
+    @Test
+    @DisplayName("판단 보류(null)는 캐시/저장하지 않고 다음 요청에서 다시 판단")
+    void testUndecidedNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertFalse(locationDecisionCache.get("판교", keyword -> {
+            calls.incrementAndGet();
+            return null;
+        }));
+        assertTrue(locationDecisionCache.get("판교", keyword -> {
+            calls.incrementAndGet();
+            return true;
+        }));
+
+        assertEquals(2, calls.get());
+        verify(decisionRepository, times(1)).save(any(LocationKeywordDecision.class));
+    }
+
+    @Test
+    @DisplayName("DB 에 저장된 판단이 있으면 GPT 호출 없이 사용")
+    void testLoadedFromDb() {
+        LocationKeywordDecision decision = new LocationKeywordDecision();
+        decision.setKeyword("카페 어니언");
+        decision.setHasLocation(false);
+        when(decisionRepository.findByKeyword("카페 어니언")).thenReturn(Optional.of(decision));
+
+        assertFalse(locationDecisionCache.get("카페 어니언", keyword -> {
+            throw new AssertionError("GPT 를 호출하면 안 됨");
+        }));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키워드는 GPT 호출 하나를 공유")
+    void testSingleFlight() throws Exception {
+        int threads = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> locationDecisionCache.get("판교 유스페이스", keyword -> {
+                    calls.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return true;
+                })));
+            }
+
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,85 @@
+package com.ktb7.pinpung.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 고정 키워드 코퍼스로 로컬 분류기의 정확도/지연시간 측정.
+ * ./gradlew benchmark --tests '*LocationKeywordClassifierBenchmarkTest'
+ */
+@Tag("benchmark")
+class LocationKeywordClassifierBenchmarkTest {
+
+    private static final int ROUNDS = 1000;
+
+    @Test
+    @DisplayName("로컬 분류기 정확도 vs 지연시간")
+    void benchmark() throws Exception {
+        List<String[]> corpus = loadCorpus();
+        LocationKeywordClassifier classifier = new LocationKeywordClassifier(new SimpleMeterRegistry());
+
+        int decided = 0;
+        int correct = 0;
+        List<String> wrong = new ArrayList<>();
+        for (String[] row : corpus) {
+            LocationKeywordClassifier.Result result = classifier.classify(row[0]);
+            if (result == LocationKeywordClassifier.Result.AMBIGUOUS) {
+                continue;
+            }
+            decided++;
+            boolean expected = "1".equals(row[1]);
+            if ((result == LocationKeywordClassifier.Result.LOCATION) == expected) {
+                correct++;
+            } else {
+                wrong.add(row[0] + " -> " + result);
+            }
+        }
+
+        // 워밍업 후 측정
+        for (int i = 0; i < ROUNDS; i++) {
+            corpus.forEach(row -> classifier.classify(row[0]));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            corpus.forEach(row -> classifier.classify(row[0]));
+        }
+        double avgMicros = (System.nanoTime() - start) / 1000.0 / ROUNDS / corpus.size();
+
+        double coverage = (double) decided / corpus.size();
+        double accuracy = decided == 0 ? 0 : (double) correct / decided;
+        System.out.printf("corpus=%d, decided locally=%d (%.1f%%), accuracy on decided=%.1f%%, GPT calls=%d, avg latency=%.2fus%n",
+                corpus.size(), decided, coverage * 100, accuracy * 100, corpus.size() - decided, avgMicros);
+        if (!wrong.isEmpty()) {
+            System.out.println("misclassified: " + wrong);
+        }
+
+        assertTrue(accuracy >= 0.95, "로컬 판단 정확도가 95% 미만");
+        assertTrue(coverage >= 0.7, "로컬 판단 비율이 70% 미만");
+    }
+
+    private List<String[]> loadCorpus() throws Exception {
+        List<String[]> corpus = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("location/keyword-corpus.tsv").getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                corpus.add(line.split("\t"));
+            }
+        }
+        return corpus;
+    }
+}
@@ -0,0 +1,54 @@
+package com.ktb7.pinpung.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.ktb7.pinpung.service.LocationKeywordClassifier.Result.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LocationKeywordClassifierTest {
+
+    private LocationKeywordClassifier classifier;
+
+    @BeforeEach
+    void setUp() {
+        classifier = new LocationKeywordClassifier(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("지명 사전 + 접미사 규칙으로 위치 키워드 판단")
+    void testLocation() {
+        assertEquals(LOCATION, classifier.classify("강남 카페"));
+        assertEquals(LOCATION, classifier.classify("판교역"));
+        assertEquals(LOCATION, classifier.classify("  성수동   디저트 "));
+        assertEquals(LOCATION, classifier.classify("야탑역카페"));
+        assertEquals(LOCATION, classifier.classify("망리단길"));
+    }
+
+    @Test
+    @DisplayName("카페 관련 일반 단어/브랜드만 있으면 위치 아님")
+    void testNotLocation() {
+        assertEquals(NOT_LOCATION, classifier.classify("카페"));
+        assertEquals(NOT_LOCATION, classifier.classify("조용한 스터디 카페"));
+        assertEquals(NOT_LOCATION, classifier.classify("스타벅스"));
+    }
+
+    @Test
+    @DisplayName("판단할 수 없는 키워드는 GPT 로 넘김")
+    void testAmbiguous() {
+        assertEquals(AMBIGUOUS, classifier.classify("카페 어니언"));
+        assertEquals(AMBIGUOUS, classifier.classify("블루보틀성수"));
+    }
+
+    @Test
+    @DisplayName("사전에 없는 어간 + 동/구/면 등, 지명과 같은 일반 명사는 위치로 단정하지 않음")
+    void testCommonNounsNotLocation() {
+        assertEquals(AMBIGUOUS, classifier.classify("물냉면"));
+        assertEquals(AMBIGUOUS, classifier.classify("놀이기구 카페"));
+        assertEquals(AMBIGUOUS, classifier.classify("번역 카페"));
+        assertEquals(AMBIGUOUS, classifier.classify("정자"));
+        assertEquals(AMBIGUOUS, classifier.classify("삼성 노트북"));
+    }
+}
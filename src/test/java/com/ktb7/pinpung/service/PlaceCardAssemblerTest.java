@@ -0,0 +1,100 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.dto.Place.SimplePlaceDto;
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.Review;
+import com.ktb7.pinpung.exception.common.CustomException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 트렌딩 태그 응답(태그 5개 x 카페 10개, 태그 간 중복 포함)을 카드로 만들 때
+ * 장소 수와 무관하게 쿼리 2번(장소, 장소 집계)으로 끝나는지 확인.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PlaceCardAssembler.class, PlaceSummaryService.class})
+class PlaceCardAssemblerTest {
+
+    private static final int PLACE_COUNT = 30;
+
+    @Autowired
+    private PlaceCardAssembler placeCardAssembler;
+    @Autowired
+    private PlaceSummaryService placeSummaryService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> placeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            Place place = new Place();
+            place.setKakaoPlaceId("kakao-" + i);
+            place.setPlaceName("카페 " + i);
+            place.setAddress("주소 " + i);
+            place.setX("127.10" + i);
+            place.setY("37.40" + i);
+            entityManager.persist(place);
+            placeIds.add(place.getPlaceId());
+
+            Review review = new Review();
+            review.setUserId(1L);
+            review.setPlaceId(place.getPlaceId());
+            review.setImageId(100L + i);
+            review.setText("리뷰");
+            entityManager.persist(review);
+        }
+
+        placeSummaryService.refresh(placeIds);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("태그 간 중복 장소를 포함해도 장소/집계를 한 번씩만 조회")
+    void testTrendingCardsInTwoQueries() {
+        List<List<Long>> cafeList = new ArrayList<>();
+        for (int tag = 0; tag < 5; tag++) {
+            cafeList.add(placeIds.subList(tag * 5, tag * 5 + 10));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Map<Long, SimplePlaceDto> cards = placeCardAssembler.assemble(cafeList.stream().flatMap(List::stream).toList());
+        List<SimplePlaceDto> secondTag = placeCardAssembler.toCards(cafeList.get(1), cards);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(PLACE_COUNT, cards.size());
+        assertEquals(10, secondTag.size());
+        assertEquals(placeIds.get(5), secondTag.get(0).getPlaceId());
+        assertEquals("카페 5", secondTag.get(0).getPlaceName());
+        assertEquals(105L, secondTag.get(0).getImageId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 장소가 있으면 PLACE_NOT_FOUND")
+    void testMissingPlace() {
+        assertThrows(CustomException.class, () -> placeCardAssembler.assemble(List.of(placeIds.get(0), -1L)));
+    }
+}
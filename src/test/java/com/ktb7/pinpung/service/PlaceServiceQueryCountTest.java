@@ -0,0 +1,174 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.dto.Place.PlaceNearbyDto;
+import com.ktb7.pinpung.entity.Follow;
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.Pung;
+import com.ktb7.pinpung.entity.User;
+import com.ktb7.pinpung.repository.PlaceRepository;
+import com.ktb7.pinpung.repository.PungRepository;
+import com.ktb7.pinpung.util.RepositoryHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 지도 검색 1회(장소 45개) 기준 getPlacesWithRepresentativeImage 쿼리 수/소요 시간 측정.
+ * 장소당 findFirstByPlaceIdAndIsReviewFalseOrderByPungIdDesc + findById 를 호출하던 기존 방식과 비교한다.
+ * 대표 펑은 PlaceSummary 에서 읽는다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PlaceService.class, PlaceSummaryService.class, RepositoryHelper.class, FollowerIdCache.class, SimpleMeterRegistry.class})
+class PlaceServiceQueryCountTest {
+
+    private static final int PLACE_COUNT = 45;
+
+    @Autowired
+    private PlaceService placeService;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private PungRepository pungRepository;
+    @Autowired
+    private RepositoryHelper repositoryHelper;
+    @Autowired
+    private PlaceSummaryService placeSummaryService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private Clock clock;
+    @MockBean
+    private ImageStatusService imageStatusService;
+    @MockBean
+    private ImageDerivativeService imageDerivativeService;
+    @MockBean
+    private KakaoLocalClient kakaoLocalClient;
+    @MockBean
+    private PlaceTileCache placeTileCache;
+    @MockBean
+    private PlaceSpatialIndex placeSpatialIndex;
+
+    private Long viewerId;
+    private Long friendId;
+    private final List<Long> placeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User viewer = persistUser("viewer");
+        User friend = persistUser("friend");
+        User stranger = persistUser("stranger");
+        viewerId = viewer.getUserId();
+        friendId = friend.getUserId();
+
+        // friend 가 viewer 를 팔로우
+        Follow follow = new Follow();
+        follow.setFollower(friend);
+        follow.setFollowing(viewer);
+        entityManager.persist(follow);
+
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            Place place = new Place();
+            place.setKakaoPlaceId("kakao-" + i);
+            place.setPlaceName("카페 " + i);
+            place.setAddress("주소 " + i);
+            place.setX("127.10" + i);
+            place.setY("37.40" + i);
+            entityManager.persist(place);
+            placeIds.add(place.getPlaceId());
+
+            // 짝수 장소: 리뷰로 넘어간 펑 + stranger 펑 + 최신 friend 펑, 홀수 장소: 펑 없음
+            if (i % 2 == 0) {
+                persistPung(stranger.getUserId(), place.getPlaceId(), 1L, true);
+                persistPung(stranger.getUserId(), place.getPlaceId(), 2L, false);
+                persistPung(friend.getUserId(), place.getPlaceId(), 3L, false);
+            }
+        }
+
+        placeSummaryService.refresh(placeIds);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("장소 45개 조회 시 쿼리 수가 장소 수와 무관하게 일정")
+    void testConstantQueryCount() {
+        // 쿼리 준비 비용 제외를 위한 워밍업
+        placeService.getPlacesWithRepresentativeImage(viewerId, placeIds);
+        placeIds.forEach(placeId -> pungRepository.findFirstByPlaceIdAndIsReviewFalseOrderByPungIdDesc(placeId));
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        List<PlaceNearbyDto> places = placeService.getPlacesWithRepresentativeImage(viewerId, placeIds);
+        long batchQueries = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+        for (Long placeId : placeIds) {
+            pungRepository.findFirstByPlaceIdAndIsReviewFalseOrderByPungIdDesc(placeId);
+            repositoryHelper.findPlaceById(placeId);
+        }
+        long legacyQueries = statistics.getPrepareStatementCount();
+
+        assertEquals(PLACE_COUNT, places.size());
+        // 장소 + 장소 집계 (팔로워 id 는 워밍업 때 캐시됨), 장소별 조회는 장소마다 2번
+        assertEquals(2, batchQueries);
+        assertEquals(2L * PLACE_COUNT, legacyQueries);
+
+        // 결과 순서 유지, 최신 펑(friend)이 대표 펑
+        PlaceNearbyDto first = places.get(0);
+        assertEquals(placeIds.get(0), first.getPlaceId());
+        assertTrue(first.getHasPung());
+        assertTrue(first.getByFriend());
+        assertEquals(3L, first.getImageId());
+
+        PlaceNearbyDto second = places.get(1);
+        assertFalse(second.getHasPung());
+        assertFalse(second.getByFriend());
+        assertNull(second.getImageId());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private User persistUser(String name) {
+        User user = new User();
+        user.setUserName(name);
+        user.setAge(0);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void persistPung(Long userId, Long placeId, Long imageId, boolean isReview) {
+        Pung pung = new Pung();
+        pung.setUserId(userId);
+        pung.setPlaceId(placeId);
+        pung.setImageId(imageId);
+        pung.setIsReview(isReview);
+        entityManager.persist(pung);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.repository.PlaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 타일 캐시 미스 때 카카오 요청 수.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaceServiceTileSearchTest {
+
+    // 4개 타일을 덮는 뷰포트
+    private static final String[] VIEWPORT = {"127.095", "37.395", "127.105", "37.405"};
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PlaceTileCache placeTileCache = new PlaceTileCache(meterRegistry, "0.01", 100, 10, 16, 4, 1, 3);
+    @Mock
+    private KakaoLocalClient kakaoLocalClient;
+    @Mock
+    private PlaceRepository placeRepository;
+    @InjectMocks
+    private PlaceService placeService;
+
+    @Test
+    @DisplayName("빈 타일이 max-missing-tiles 를 넘으면 타일별 검색 대신 뷰포트 한 번 검색")
+    void testFallbackWhenManyTilesMissing() {
+        when(kakaoLocalClient.categorySearch(eq("카페"), eq(VIEWPORT[0]), eq(VIEWPORT[1]), eq(VIEWPORT[2]), eq(VIEWPORT[3]),
+                any(), any(), any(), eq(KakaoLocalClient.MAX_PAGE)))
+                .thenReturn(new KakaoLocalClient.SearchResult(List.of(), 3));
+
+        search();
+
+        verify(kakaoLocalClient, times(1)).categorySearch(any(), any(), any(), any(), any(), any(), any(), any(), anyInt());
+        assertEquals(3.0, calledCount());
+    }
+
+    @Test
+    @DisplayName("빈 타일이 적으면 타일당 max-pages-per-tile 페이지만 요청하고 실제 요청 수를 기록")
+    void testFetchMissingTilesWithPageCap() {
+        List<PlaceTileCache.Tile> tiles = placeTileCache.coveringTiles(VIEWPORT[0], VIEWPORT[1], VIEWPORT[2], VIEWPORT[3]);
+        placeTileCache.put("카페", tiles.get(0), List.of());
+        placeTileCache.put("카페", tiles.get(1), List.of());
+        when(kakaoLocalClient.categorySearch(eq("카페"), any(), any(), any(), any(), any(), any(), eq("accuracy"), eq(1)))
+                .thenReturn(new KakaoLocalClient.SearchResult(List.of(), 1));
+
+        search();
+
+        verify(kakaoLocalClient, times(2)).categorySearch(any(), any(), any(), any(), any(), any(), any(), any(), eq(1));
+        assertEquals(2.0, calledCount());
+    }
+
+    private void search() {
+        placeService.cachedCategorySearch("카페", VIEWPORT[0], VIEWPORT[1], VIEWPORT[2], VIEWPORT[3], null, null, "accuracy");
+    }
+
+    private double calledCount() {
+        return meterRegistry.get("kakao.local.tile.upstream").tag("result", "called").counter().count();
+    }
+}
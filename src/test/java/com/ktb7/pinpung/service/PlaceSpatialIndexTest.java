@@ -0,0 +1,55 @@
+package com.ktb7.pinpung.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlaceSpatialIndexTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlaceSpatialIndex placeSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        placeSpatialIndex = new PlaceSpatialIndex(meterRegistry, 0.01, 400, 15);
+    }
+
+    @Test
+    @DisplayName("사각형 안의 장소만 중심에서 가까운 순으로 반환")
+    void testSearch() {
+        placeSpatialIndex.put(1L, 127.1010, 37.4010);
+        placeSpatialIndex.put(2L, 127.1001, 37.4001);
+        placeSpatialIndex.put(3L, 127.1100, 37.4100);   // 범위 밖
+        placeSpatialIndex.put(4L, 127.0950, 37.3950);   // 다른 칸
+
+        List<Long> placeIds = placeSpatialIndex.search(127.09, 37.39, 127.11, 37.41 - 0.005);
+
+        assertEquals(List.of(2L, 1L, 4L), placeIds);
+    }
+
+    @Test
+    @DisplayName("같은 장소를 다시 넣어도 한 번만 집계")
+    void testPutTwice() {
+        placeSpatialIndex.put(1L, 127.1010, 37.4010);
+        placeSpatialIndex.put(1L, 127.1010, 37.4010);
+        placeSpatialIndex.put(2L, null, 37.4010);
+
+        assertEquals(1, placeSpatialIndex.size());
+        assertEquals(1.0, meterRegistry.get("place.spatial.index.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("너무 넓은 영역은 인덱스로 검색하지 않음")
+    void testTooWide() {
+        placeSpatialIndex.put(1L, 127.1010, 37.4010);
+
+        assertTrue(placeSpatialIndex.search(126.0, 37.0, 128.0, 38.0).isEmpty());
+    }
+}
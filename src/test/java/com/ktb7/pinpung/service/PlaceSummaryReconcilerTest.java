@@ -0,0 +1,78 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.repository.PlaceSummaryRepository;
+import com.ktb7.pinpung.repository.PlaceTagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PlaceSummaryReconcilerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 10, 12, 0);
+
+    private PlaceSummaryRepository placeSummaryRepository;
+    private PlaceTagRepository placeTagRepository;
+    private PlaceSummaryService placeSummaryService;
+    private PlaceSummaryReconciler reconciler;
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW.atZone(ZoneId.systemDefault()).toInstant());
+
+    @BeforeEach
+    void setUp() {
+        placeSummaryRepository = mock(PlaceSummaryRepository.class);
+        placeTagRepository = mock(PlaceTagRepository.class);
+        placeSummaryService = mock(PlaceSummaryService.class);
+
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+
+        when(placeSummaryRepository.findReviewedPlaceIdsWithoutSummary(anyLong(), any())).thenReturn(List.of());
+        when(placeSummaryRepository.findPungedPlaceIdsWithoutSummary(anyLong(), any())).thenReturn(List.of());
+        when(placeSummaryRepository.findTaggedPlaceIdsWithoutSummary(anyLong(), any())).thenReturn(List.of());
+        when(placeTagRepository.findPlaceIdsUpdatedSince(any())).thenReturn(List.of());
+
+        reconciler = new PlaceSummaryReconciler(placeSummaryRepository, placeTagRepository, placeSummaryService,
+                new SimpleMeterRegistry(), clock, 2, Duration.ofMinutes(1), Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("첫 실행은 집계 없는 장소를 배치 단위로 백필")
+    void testBackfillOnFirstRun() {
+        when(placeSummaryRepository.findReviewedPlaceIdsWithoutSummary(eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(placeSummaryRepository.findReviewedPlaceIdsWithoutSummary(eq(2L), any())).thenReturn(List.of(3L));
+
+        reconciler.reconcile();
+
+        verify(placeSummaryService).refresh(List.of(1L, 2L));
+        verify(placeSummaryService).refresh(List.of(3L));
+        verify(placeTagRepository).findPlaceIdsUpdatedSince(NOW.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("이후 실행은 지난 실행 이후 태그가 바뀐 장소만 다시 계산")
+    void testIncremental() {
+        reconciler.reconcile();
+        now.set(now.get().plus(Duration.ofMinutes(10)));
+        when(placeTagRepository.findPlaceIdsUpdatedSince(NOW.minusMinutes(1))).thenReturn(List.of(5L, 6L, 7L));
+
+        reconciler.reconcile();
+
+        verify(placeSummaryService).refresh(List.of(5L, 6L));
+        verify(placeSummaryService).refresh(List.of(7L));
+        verify(placeSummaryRepository, times(1)).findReviewedPlaceIdsWithoutSummary(anyLong(), any());
+    }
+}
@@ -0,0 +1,161 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Image;
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.PlaceSummary;
+import com.ktb7.pinpung.entity.Pung;
+import com.ktb7.pinpung.entity.Review;
+import com.ktb7.pinpung.repository.PlaceSummaryRepository;
+import com.ktb7.pinpung.repository.PungRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PlaceSummaryService.class)
+class PlaceSummaryServiceTest {
+
+    @Autowired
+    private PlaceSummaryService placeSummaryService;
+    @Autowired
+    private PlaceSummaryRepository placeSummaryRepository;
+    @Autowired
+    private PungRepository pungRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long placeId;
+    private Long tagId;
+
+    @BeforeEach
+    void setUp() {
+        Place place = new Place();
+        place.setKakaoPlaceId("kakao-1");
+        place.setPlaceName("카페");
+        place.setAddress("주소");
+        place.setX("127.1");
+        place.setY("37.4");
+        entityManager.persist(place);
+        placeId = place.getPlaceId();
+
+        entityManager.createNativeQuery("INSERT INTO Tag (tagName) VALUES ('조용한'), ('넓은')").executeUpdate();
+        tagId = ((Number) entityManager.createNativeQuery("SELECT MIN(id) FROM Tag").getSingleResult()).longValue();
+        insertPlaceTag(tagId, true);
+        insertPlaceTag(tagId + 1, false);
+    }
+
+    @Test
+    @DisplayName("집계 행이 없는 장소는 조회 시 만들지 않고 빈 집계")
+    void testMissingIsEmpty() {
+        persistReview(1L, 5L);
+        entityManager.flush();
+
+        Map<Long, PlaceSummary> summaries = placeSummaryService.getSummaries(List.of(placeId, -1L));
+
+        assertEquals(0L, summaries.get(placeId).getReviewCount());
+        assertTrue(summaries.get(placeId).getTags().isEmpty());
+        assertEquals(0L, summaries.get(-1L).getReviewCount());
+        assertNull(entityManager.find(PlaceSummary.class, placeId));
+    }
+
+    @Test
+    @DisplayName("refresh 하면 리뷰/태그 집계 행 생성")
+    void testRefreshCreatesRow() {
+        persistReview(1L, 5L);
+        placeSummaryService.refresh(placeId);
+
+        PlaceSummary summary = placeSummaryService.getSummaries(List.of(placeId)).get(placeId);
+        assertEquals(1L, summary.getReviewCount());
+        assertEquals(5L, summary.getLatestReviewImageId());
+        assertEquals(List.of("조용한", "넓은"), summary.getTags());
+        assertEquals(List.of("조용한"), summary.getRepresentativeTags());
+        assertNull(summary.getRepresentativePungId());
+    }
+
+    @Test
+    @DisplayName("리뷰/펑 변경 후 refresh 하면 기존 집계 행을 갱신")
+    void testRefreshUpdatesExistingRow() {
+        placeSummaryService.refresh(placeId);
+
+        persistReview(1L, 5L);
+        persistReview(2L, 6L);
+        persistPung(2L, 9L, false);
+        persistPung(1L, 7L, true);
+        Pung representative = persistPung(3L, 8L, false);
+        placeSummaryService.refresh(placeId);
+        entityManager.clear();
+
+        PlaceSummary summary = entityManager.find(PlaceSummary.class, placeId);
+        assertEquals(2L, summary.getReviewCount());
+        assertEquals(6L, summary.getLatestReviewImageId());
+        assertEquals(representative.getPungId(), summary.getRepresentativePungId());
+        assertEquals(8L, summary.getRepresentativePungImageId());
+        assertEquals(3L, summary.getRepresentativePungUserId());
+        // 장소 상세도 같은 펑을 대표로 보여줌
+        assertEquals(representative.getPungId(),
+                pungRepository.findFirstByPlaceIdAndIsReviewFalseOrderByPungIdDesc(placeId).orElseThrow().getPungId());
+    }
+
+    @Test
+    @DisplayName("대표 펑 이미지의 축소본 키는 집계 때 읽고, 나중에 만들어지면 이미지로 찾아 갱신")
+    void testRepresentativeDerivativeKeys() {
+        Image image = new Image();
+        image.setImageTextKey("uploaded-images/1");
+        entityManager.persist(image);
+        persistPung(3L, image.getImageId(), false);
+        placeSummaryService.refresh(placeId);
+        assertNull(entityManager.find(PlaceSummary.class, placeId).getRepresentativePungMarkerKey());
+
+        placeSummaryRepository.updateRepresentativeDerivativeKeys(image.getImageId(), "thumbnails/1", "markers/1");
+        entityManager.clear();
+        PlaceSummary summary = entityManager.find(PlaceSummary.class, placeId);
+        assertEquals("thumbnails/1", summary.getRepresentativePungThumbnailKey());
+        assertEquals("markers/1", summary.getRepresentativePungMarkerKey());
+
+        // 다시 집계해도 Image 의 키를 유지
+        entityManager.createQuery("UPDATE Image i SET i.thumbnailKey = 'thumbnails/1', i.markerKey = 'markers/1'").executeUpdate();
+        placeSummaryService.refresh(placeId);
+        entityManager.clear();
+        assertEquals("markers/1", entityManager.find(PlaceSummary.class, placeId).getRepresentativePungMarkerKey());
+    }
+
+    private void insertPlaceTag(Long tagId, boolean isRepresentative) {
+        entityManager.createNativeQuery("INSERT INTO PlaceTag (tagId, placeId, tagCount, isRepresentative) VALUES (?, ?, 1, ?)")
+                .setParameter(1, tagId)
+                .setParameter(2, placeId)
+                .setParameter(3, isRepresentative)
+                .executeUpdate();
+    }
+
+    private void persistReview(Long userId, Long imageId) {
+        Review review = new Review();
+        review.setUserId(userId);
+        review.setPlaceId(placeId);
+        review.setImageId(imageId);
+        review.setText("리뷰");
+        entityManager.persist(review);
+    }
+
+    private Pung persistPung(Long userId, Long imageId, boolean isReview) {
+        Pung pung = new Pung();
+        pung.setUserId(userId);
+        pung.setPlaceId(placeId);
+        pung.setImageId(imageId);
+        pung.setIsReview(isReview);
+        entityManager.persist(pung);
+        return pung;
+    }
+}
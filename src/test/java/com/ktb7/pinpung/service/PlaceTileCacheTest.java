@@ -0,0 +1,88 @@
+package com.ktb7.pinpung.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlaceTileCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlaceTileCache placeTileCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        placeTileCache = new PlaceTileCache(meterRegistry, "0.01", 100, 10, 16, 4, 1, 3);
+    }
+
+    @Test
+    @DisplayName("비슷한 뷰포트는 같은 타일로 스냅")
+    void testCoveringTiles() {
+        List<PlaceTileCache.Tile> tiles = placeTileCache.coveringTiles("127.0990", "37.3905", "127.1039", "37.4061");
+        List<PlaceTileCache.Tile> shifted = placeTileCache.coveringTiles("127.0995", "37.3910", "127.1035", "37.4055");
+
+        assertEquals(4, tiles.size());
+        assertEquals(tiles, shifted);
+        assertEquals("127.09", tiles.get(0).swLng());
+        assertEquals("37.39", tiles.get(0).swLat());
+        assertEquals("127.10", tiles.get(0).neLng());
+    }
+
+    @Test
+    @DisplayName("타일 수가 상한을 넘거나 좌표가 잘못되면 캐시를 쓰지 않음")
+    void testCoveringTilesFallback() {
+        assertTrue(placeTileCache.coveringTiles("126.9", "37.3", "127.1", "37.5").isEmpty());
+        assertTrue(placeTileCache.coveringTiles("abc", "37.3", "127.1", "37.5").isEmpty());
+        assertTrue(placeTileCache.coveringTiles(null, null, null, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("캐시된 타일을 합쳐 뷰포트 밖 장소를 제외하고 거리순 정렬")
+    void testAssemble() {
+        List<PlaceTileCache.Tile> tiles = placeTileCache.coveringTiles("127.095", "37.395", "127.105", "37.405");
+        placeTileCache.put("카페", tiles.get(0), List.of(
+                new PlaceTileCache.TiledPlace(1L, 127.096, 37.396),
+                new PlaceTileCache.TiledPlace(2L, 127.091, 37.391)));   // 뷰포트 밖
+        placeTileCache.put("카페", tiles.get(3), List.of(
+                new PlaceTileCache.TiledPlace(3L, 127.101, 37.401)));
+
+        placeTileCache.recordUpstreamRequests(3);
+
+        Map<PlaceTileCache.Tile, List<PlaceTileCache.TiledPlace>> cached = placeTileCache.getAll("카페", tiles);
+        assertEquals(2, cached.size());
+
+        List<Long> byAccuracy = placeTileCache.assemble(tiles, cached, "127.095", "37.395", "127.105", "37.405", null, null, "accuracy");
+        List<Long> byDistance = placeTileCache.assemble(tiles, cached, "127.095", "37.395", "127.105", "37.405", "127.102", "37.402", "distance");
+
+        assertEquals(List.of(1L, 3L), byAccuracy);
+        assertEquals(List.of(3L, 1L), byDistance);
+
+        assertEquals(3.0, meterRegistry.get("kakao.local.tile.upstream").tag("result", "called").counter().count());
+        assertEquals(2.0, meterRegistry.get("kakao.local.tile.upstream").tag("result", "saved").counter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("정확도순은 타일 순서가 아니라 타일별 카카오 순위끼리 합침")
+    void testAssembleAccuracyByRank() {
+        List<PlaceTileCache.Tile> tiles = placeTileCache.coveringTiles("127.095", "37.395", "127.105", "37.405");
+        Map<PlaceTileCache.Tile, List<PlaceTileCache.TiledPlace>> placesByTile = Map.of(
+                tiles.get(0), List.of(
+                        new PlaceTileCache.TiledPlace(1L, 127.096, 37.396),
+                        new PlaceTileCache.TiledPlace(2L, 127.097, 37.397)),
+                tiles.get(3), List.of(
+                        new PlaceTileCache.TiledPlace(3L, 127.101, 37.401),
+                        new PlaceTileCache.TiledPlace(4L, 127.102, 37.402)));
+
+        List<Long> byAccuracy = placeTileCache.assemble(tiles, placesByTile, "127.095", "37.395", "127.105", "37.405", null, null, "accuracy");
+
+        assertEquals(List.of(1L, 3L, 2L, 4L), byAccuracy);
+    }
+}
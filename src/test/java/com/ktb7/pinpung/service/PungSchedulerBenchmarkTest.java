@@ -0,0 +1,117 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Pung;
+import com.ktb7.pinpung.repository.PungRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 펑 100만 건(모두 24시간 내)을 리뷰로 전환하는 스케줄러 실행 시간/힙 사용량 측정.
+ * 변경 전 방식(엔티티 전체 조회 + saveAll)은 같은 조건에서 10만 건으로 비교한다. ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=false")
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 운영처럼 범위마다 커밋
+class PungSchedulerBenchmarkTest {
+
+    private static final int PUNG_COUNT = 1_000_000;
+    private static final int LEGACY_COUNT = 100_000;
+
+    @Autowired
+    private PungRepository pungRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void measureScheduler() throws Exception {
+        seed(PUNG_COUNT);
+        PungScheduler pungScheduler = new PungScheduler(pungRepository, Clock.systemDefaultZone(),
+                mock(PlaceSummaryService.class), new SimpleMeterRegistry(), 10_000);
+
+        long[] bulk = measure(pungScheduler::schedule);
+        long converted = count(true);
+        System.out.printf("bulk update: pungs=%d, %dms, peak heap +%dMB%n", PUNG_COUNT, bulk[0], bulk[1]);
+        assertEquals(PUNG_COUNT, converted);
+
+        jdbcTemplate.update("DELETE FROM Pung");
+        seed(LEGACY_COUNT);
+        long[] legacy = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            // 변경 전 PungScheduler.schedule
+            List<Pung> pungs = entityManager.createQuery("SELECT p FROM Pung p WHERE p.updatedAt >= :yesterday", Pung.class)
+                    .setParameter("yesterday", LocalDateTime.now().minusDays(1))
+                    .getResultList();
+            pungs.forEach(pung -> pung.setIsReview(true));
+            pungRepository.saveAll(pungs);
+        }));
+        jdbcTemplate.update("DELETE FROM Pung");
+        System.out.printf("legacy entity update: pungs=%d, %dms, peak heap +%dMB%n", LEGACY_COUNT, legacy[0], legacy[1]);
+    }
+
+    private void seed(int count) {
+        jdbcTemplate.update("INSERT INTO Pung (userId, placeId, isReview, createdAt, updatedAt) " +
+                "SELECT MOD(X, 1000) + 1, MOD(X, 5000) + 1, FALSE, DATEADD('MINUTE', -MOD(X, 600), CURRENT_TIMESTAMP), " +
+                "DATEADD('MINUTE', -MOD(X, 600), CURRENT_TIMESTAMP) FROM SYSTEM_RANGE(1, " + count + ")");
+    }
+
+    private long count(boolean isReview) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Pung WHERE isReview = ?", Long.class, isReview);
+    }
+
+    // {실행 시간 ms, 시작 대비 최대 힙 증가 MB} (10ms 간격 샘플링)
+    private static long[] measure(Runnable task) throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        return new long[]{millis, Math.max(0, peak.get() - baseline) / (1024 * 1024)};
+    }
+}
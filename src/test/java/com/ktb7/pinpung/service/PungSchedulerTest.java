@@ -0,0 +1,104 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Pung;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ktb7.pinpung.repository.PungRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PungSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 10, 6, 0);
+
+    @Autowired
+    private PungRepository pungRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private PlaceSummaryService placeSummaryService;
+    private SimpleMeterRegistry meterRegistry;
+    private PungScheduler pungScheduler;
+
+    @BeforeEach
+    void setUp() {
+        placeSummaryService = mock(PlaceSummaryService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        // 범위 여러 개로 나뉘도록 작은 batch-size
+        pungScheduler = new PungScheduler(pungRepository, clock, placeSummaryService, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("24시간 내 펑만 id 범위 단위로 전환하고 updatedAt 은 그대로")
+    void testBulkUpdateInChunks() {
+        Long recent1 = insertPung(1L, NOW.minusHours(1), false);
+        Long old = insertPung(2L, NOW.minusDays(2), false);
+        Long recent2 = insertPung(3L, NOW.minusHours(20), false);
+        Long recent3 = insertPung(3L, NOW.minusHours(5), false);
+        Long alreadyReview = insertPung(4L, NOW.minusHours(2), true);
+
+        pungScheduler.schedule();
+        entityManager.clear();
+
+        assertTrue(find(recent1).getIsReview());
+        assertTrue(find(recent2).getIsReview());
+        assertTrue(find(recent3).getIsReview());
+        assertFalse(find(old).getIsReview());
+        assertTrue(find(alreadyReview).getIsReview());
+        assertEquals(NOW.minusHours(1), find(recent1).getUpdatedAt());
+
+        assertEquals(3.0, meterRegistry.get("pung.scheduler.updated").counter().count());
+        assertEquals(1.0, meterRegistry.get("pung.scheduler.progress").gauge().value());
+
+        ArgumentCaptor<Collection<Long>> placeIds = ArgumentCaptor.forClass(Collection.class);
+        verify(placeSummaryService).refresh(placeIds.capture());
+        assertEquals(Set.of(1L, 3L), new HashSet<>(placeIds.getValue()));
+    }
+
+    @Test
+    @DisplayName("전환할 펑이 없으면 집계 갱신도 하지 않음")
+    void testNothingToUpdate() {
+        insertPung(1L, NOW.minusDays(3), false);
+
+        pungScheduler.schedule();
+
+        verify(placeSummaryService, never()).refresh(anyCollection());
+    }
+
+    // updatedAt 을 직접 지정하기 위해 네이티브 INSERT
+    private Long insertPung(Long placeId, LocalDateTime updatedAt, boolean isReview) {
+        entityManager.createNativeQuery("INSERT INTO Pung (userId, placeId, isReview, createdAt, updatedAt) VALUES (1, ?, ?, ?, ?)")
+                .setParameter(1, placeId)
+                .setParameter(2, isReview)
+                .setParameter(3, updatedAt)
+                .setParameter(4, updatedAt)
+                .executeUpdate();
+        return ((Number) entityManager.createNativeQuery("SELECT MAX(id) FROM Pung").getSingleResult()).longValue();
+    }
+
+    private Pung find(Long pungId) {
+        return pungRepository.findById(pungId).orElseThrow();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ktb7.pinpung.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * 펑 업로드(이미지 2장) 처리량 비교: 임시 파일 + 순차 putObject(기존) vs 스트리밍 + 동시 업로드.
+ * 로컬 S3 스텁이 요청마다 30ms 지연한다. ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+class S3ServiceBenchmarkTest {
+
+    private static final int UPLOADS = 50;
+    private static final int IMAGE_SIZE = 2 * 1024 * 1024;
+    private static final long LATENCY_MS = 30;
+
+    @Test
+    void compareLegacyAndStreaming() throws Exception {
+        byte[] bytes = new byte[IMAGE_SIZE];
+        new Random(1).nextBytes(bytes);
+        MockMultipartFile imageWithText = new MockMultipartFile("imageWithText", "text.jpg", "image/jpeg", bytes);
+        MockMultipartFile pureImage = new MockMultipartFile("pureImage", "pure.jpg", "image/jpeg", bytes);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+
+        try (S3StubServer stub = new S3StubServer(LATENCY_MS)) {
+            S3Client client = stub.client();
+            S3Service s3Service = new S3Service(client, executor);
+            ReflectionTestUtils.setField(s3Service, "bucketName", "bucket");
+            ReflectionTestUtils.setField(s3Service, "multipartThreshold", DataSize.ofMegabytes(8));
+            ReflectionTestUtils.setField(s3Service, "partSize", DataSize.ofMegabytes(5));
+
+            // 워밍업
+            for (int i = 0; i < 5; i++) {
+                legacyUpload(client, imageWithText, pureImage, (long) i);
+                s3Service.uploadFile(imageWithText, pureImage, (long) i, false);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < UPLOADS; i++) {
+                legacyUpload(client, imageWithText, pureImage, (long) i);
+            }
+            long legacyMillis = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            for (int i = 0; i < UPLOADS; i++) {
+                s3Service.uploadFile(imageWithText, pureImage, (long) i, false);
+            }
+            long streamingMillis = (System.nanoTime() - start) / 1_000_000;
+
+            double megabytes = 2.0 * UPLOADS * IMAGE_SIZE / (1024 * 1024);
+            System.out.printf("uploads=%d (2 x %dKB), legacy: %dms (%.1f MB/s), streaming: %dms (%.1f MB/s)%n",
+                    UPLOADS, IMAGE_SIZE / 1024,
+                    legacyMillis, megabytes * 1000 / legacyMillis,
+                    streamingMillis, megabytes * 1000 / streamingMillis);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 변경 전 방식: MultipartFile -> 임시 파일 -> putObject(Path), 두 장 순차
+    private static void legacyUpload(S3Client client, MultipartFile imageWithText, MultipartFile pureImage, Long imageId) throws Exception {
+        legacyPut(client, imageWithText, "uploaded-images/" + imageId);
+        legacyPut(client, pureImage, "original-images/" + imageId);
+    }
+
+    private static void legacyPut(S3Client client, MultipartFile file, String key) throws Exception {
+        Path temp = Files.createTempFile("temp-" + file.getOriginalFilename(), null);
+        file.transferTo(temp);
+        client.putObject(PutObjectRequest.builder().bucket("bucket").key(key).contentType(file.getContentType()).build(), temp);
+        Files.deleteIfExists(temp);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.exception.common.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3ServiceTest {
+
+    private S3StubServer stub;
+    private ThreadPoolTaskExecutor executor;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new S3StubServer(0);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        s3Service = new S3Service(stub.client(), executor);
+        ReflectionTestUtils.setField(s3Service, "bucketName", "bucket");
+        ReflectionTestUtils.setField(s3Service, "multipartThreshold", DataSize.ofMegabytes(8));
+        ReflectionTestUtils.setField(s3Service, "partSize", DataSize.ofMegabytes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("펑 이미지 두 장을 각각의 키로 업로드")
+    void testPungUpload() {
+        Map<String, String> keys = s3Service.uploadFile(image(1024), image(2048), 7L, false);
+
+        assertEquals("uploaded-images/7", keys.get("imageTextKey"));
+        assertEquals("original-images/7", keys.get("pureImageKey"));
+        assertEquals(1024L, stub.objectSizes().get("uploaded-images/7"));
+        assertEquals(2048L, stub.objectSizes().get("original-images/7"));
+    }
+
+    @Test
+    @DisplayName("리뷰는 원본 이미지만 업로드")
+    void testReviewUpload() {
+        Map<String, String> keys = s3Service.uploadFile(null, image(1024), 8L, true);
+
+        assertNull(keys.get("imageTextKey"));
+        assertEquals(1, stub.objectSizes().size());
+    }
+
+    @Test
+    @DisplayName("임계값 이상 파일은 multipart 로 나눠서 업로드")
+    void testMultipartUpload() {
+        int size = (int) DataSize.ofMegabytes(9).toBytes();
+
+        s3Service.uploadFile(null, image(size), 9L, true);
+
+        assertEquals(2, stub.partRequests());
+        assertEquals((long) size, stub.objectSizes().get("original-images/9"));
+    }
+
+    @Test
+    @DisplayName("원본 업로드가 실패하면 텍스트 이미지 업로드를 기다렸다가 삭제")
+    void testPureUploadFailureDiscardsImageText() {
+        assertThrows(CustomException.class, () -> s3Service.uploadFile(image(1024), unreadable(), 10L, false));
+
+        assertTrue(stub.objectSizes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("텍스트 이미지 업로드가 실패하면 올라간 원본을 삭제")
+    void testImageTextFailureDiscardsPure() {
+        assertThrows(CustomException.class, () -> s3Service.uploadFile(unreadable(), image(1024), 11L, false));
+
+        assertTrue(stub.objectSizes().isEmpty());
+    }
+
+    private static MockMultipartFile unreadable() {
+        return new MockMultipartFile("image", "image.jpg", "image/jpeg", new byte[16]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("broken stream");
+            }
+        };
+    }
+
+    private static MockMultipartFile image(int size) {
+        return new MockMultipartFile("image", "image.jpg", "image/jpeg", new byte[size]);
+    }
+}
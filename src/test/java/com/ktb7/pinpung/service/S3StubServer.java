@@ -0,0 +1,125 @@
+package com.ktb7.pinpung.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 최소 S3 호환 서버 (PutObject, DeleteObject, multipart 업로드).
+ * 요청마다 latencyMillis 만큼 지연해서 네트워크 왕복을 흉내 내고, 받은 객체 크기를 key 별로 기록한다.
+ */
+class S3StubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final long latencyMillis;
+    private final Map<String, Long> objectSizes = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingSizes = new ConcurrentHashMap<>();
+    private final AtomicInteger uploadIds = new AtomicInteger();
+    private final AtomicInteger partRequests = new AtomicInteger();
+
+    S3StubServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    S3Client client() {
+        return S3Client.builder()
+                .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .checksumValidationEnabled(false)
+                        .chunkedEncodingEnabled(false)
+                        .build())
+                .build();
+    }
+
+    Map<String, Long> objectSizes() {
+        return objectSizes;
+    }
+
+    int partRequests() {
+        return partRequests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long size = exchange.getRequestBody().readAllBytes().length;
+            Thread.sleep(latencyMillis);
+
+            // 경로: /{bucket}/{key...}
+            String key = exchange.getRequestURI().getPath().split("/", 3)[2];
+            String query = exchange.getRequestURI().getQuery() == null ? "" : exchange.getRequestURI().getQuery();
+            String method = exchange.getRequestMethod();
+
+            if ("POST".equals(method) && query.startsWith("uploads")) {
+                String uploadId = "upload-" + uploadIds.incrementAndGet();
+                pendingSizes.put(uploadId, 0L);
+                respond(exchange, "<InitiateMultipartUploadResult><Bucket>bucket</Bucket><Key>" + key +
+                        "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+            } else if ("PUT".equals(method) && query.contains("partNumber")) {
+                partRequests.incrementAndGet();
+                pendingSizes.merge(param(query, "uploadId"), size, Long::sum);
+                exchange.getResponseHeaders().add("ETag", "\"part\"");
+                exchange.sendResponseHeaders(200, -1);
+            } else if ("POST".equals(method) && query.contains("uploadId")) {
+                objectSizes.put(key, pendingSizes.remove(param(query, "uploadId")));
+                respond(exchange, "<CompleteMultipartUploadResult><Bucket>bucket</Bucket><Key>" + key +
+                        "</Key><ETag>\"done\"</ETag></CompleteMultipartUploadResult>");
+            } else if ("DELETE".equals(method) && query.contains("uploadId")) {
+                pendingSizes.remove(param(query, "uploadId"));
+                exchange.sendResponseHeaders(204, -1);
+            } else if ("DELETE".equals(method)) {
+                objectSizes.remove(key);
+                exchange.sendResponseHeaders(204, -1);
+            } else if ("PUT".equals(method)) {
+                objectSizes.put(key, size);
+                exchange.getResponseHeaders().add("ETag", "\"object\"");
+                exchange.sendResponseHeaders(200, -1);
+            } else {
+                exchange.sendResponseHeaders(400, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String param(String query, String name) {
+        for (String pair : query.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            if (keyValue[0].equals(name) && keyValue.length == 2) {
+                return keyValue[1];
+            }
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.dto.Search.SearchResponseDto;
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.PlaceSummary;
+import com.ktb7.pinpung.repository.PlaceRepository;
+import com.ktb7.pinpung.util.LongHashSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchEnrichmentPipelineTest {
+
+    private static final long STAGE_DELAY_MS = 150;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+    private SearchEnrichmentPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        PlaceService placeService = mock(PlaceService.class);
+        PlaceRepository placeRepository = mock(PlaceRepository.class);
+        PlaceSummaryService placeSummaryService = mock(PlaceSummaryService.class);
+
+        Place place = new Place();
+        place.setPlaceId(1L);
+        place.setPlaceName("카페");
+        place.setAddress("주소");
+
+        PlaceSummary summary = PlaceSummary.empty(1L);
+        summary.setReviewCount(3L);
+        summary.setRepresentativeTags(List.of("조용한"));
+        summary.setRepresentativePungId(100L);
+        summary.setRepresentativePungImageId(10L);
+        summary.setRepresentativePungUserId(2L);
+
+        when(placeService.findFollowerIds(any())).thenAnswer(invocation -> {
+            Thread.sleep(STAGE_DELAY_MS);
+            return LongHashSet.of(2L);
+        });
+        when(placeService.buildPlaceNearbyDtos(anyList(), anyMap(), anyMap(), any(LongHashSet.class))).thenCallRealMethod();
+        when(placeSummaryService.getSummaries(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(STAGE_DELAY_MS);
+            return Map.of(1L, summary);
+        });
+        when(placeRepository.findAllById(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(STAGE_DELAY_MS);
+            return List.of(place);
+        });
+
+        SearchService searchService = new SearchService(placeRepository, mock(WebClient.class),
+                mock(LocationKeywordClassifier.class), mock(LocationDecisionCache.class), placeSummaryService);
+
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+
+        pipeline = new SearchEnrichmentPipeline(placeService, searchService, placeSummaryService, meterRegistry, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("보강 단계를 동시에 실행하고 결과를 합침")
+    void testStagesRunConcurrently() {
+        long start = System.currentTimeMillis();
+        SearchResponseDto response = pipeline.search(1L, List.of(1L), "accuracy");
+        long elapsed = System.currentTimeMillis() - start;
+
+        // 순차 실행이면 3 * 150ms
+        assertTrue(elapsed < STAGE_DELAY_MS * 2, "elapsed " + elapsed + "ms");
+        assertEquals(1L, response.getCount());
+        assertEquals("주소", response.getSearchPlaceInfoDtoList().get(0).getAddress());
+        assertEquals(3L, response.getSearchPlaceInfoDtoList().get(0).getReviewCount());
+        assertEquals(List.of("조용한"), response.getSearchPlaceInfoDtoList().get(0).getTags());
+        assertEquals(10L, response.getSearchPlaceInfoDtoList().get(0).getImageId());
+        assertTrue(response.getSearchPlaceInfoDtoList().get(0).getByFriend());
+
+        for (String stage : List.of("follower", "place", "summary")) {
+            assertEquals(1, meterRegistry.get("search.enrichment.stage").tag("stage", stage).timer().count());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.dto.Place.PlaceNearbyDto;
+import com.ktb7.pinpung.dto.Search.SearchPlaceInfoDto;
+import com.ktb7.pinpung.dto.Search.SearchResponseDto;
+import com.ktb7.pinpung.dto.Search.SearchTagReviewDto;
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.Review;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 리스트 검색 응답 조립(리뷰 수/태그 조회 + makeResponse)이 결과 수와 무관하게 일정한 쿼리 수로 끝나는지 확인.
+ * 리뷰 수/대표 태그는 PlaceSummary 에서 읽는다.
+ */
+@DataJpaTest(properties = "spring.ai.openai.api-key=test")
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SearchService.class, PlaceSummaryService.class})
+class SearchServiceQueryCountTest {
+
+    private static final int PLACE_COUNT = 45;
+
+    @Autowired
+    private SearchService searchService;
+    @Autowired
+    private PlaceSummaryService placeSummaryService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean(name = "openAiWebClient")
+    private WebClient openAiWebClient;
+    @MockBean
+    private LocationKeywordClassifier locationKeywordClassifier;
+    @MockBean
+    private LocationDecisionCache locationDecisionCache;
+
+    private final List<Long> placeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        entityManager.createNativeQuery("INSERT INTO Tag (tagName) VALUES ('조용한')").executeUpdate();
+        Long tagId = ((Number) entityManager.createNativeQuery("SELECT MAX(id) FROM Tag").getSingleResult()).longValue();
+
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            Place place = new Place();
+            place.setKakaoPlaceId("kakao-" + i);
+            place.setPlaceName("카페 " + i);
+            place.setAddress("주소 " + i);
+            place.setX("127.10" + i);
+            place.setY("37.40" + i);
+            entityManager.persist(place);
+            placeIds.add(place.getPlaceId());
+
+            for (int j = 0; j < i % 3; j++) {
+                Review review = new Review();
+                review.setUserId(1L);
+                review.setPlaceId(place.getPlaceId());
+                review.setText("리뷰");
+                entityManager.persist(review);
+            }
+
+            entityManager.createNativeQuery("INSERT INTO PlaceTag (tagId, placeId, tagCount, isRepresentative) VALUES (?, ?, 1, true)")
+                    .setParameter(1, tagId)
+                    .setParameter(2, place.getPlaceId())
+                    .executeUpdate();
+        }
+
+        placeSummaryService.refresh(placeIds);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("45개 결과 응답 조립 시 쿼리 2번 (장소 집계, 장소)")
+    void testConstantQueryCount() {
+        List<PlaceNearbyDto> placeNearbyInfoList = placeIds.stream()
+                .map(placeId -> new PlaceNearbyDto(placeId, null, false, false, null, null, null, null, null))
+                .toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<SearchTagReviewDto> tagReviews = searchService.getPlacesWithReviewCountsAndTags(placeIds);
+        SearchResponseDto response = searchService.makeResponse(1L, placeNearbyInfoList, tagReviews, "accuracy");
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(PLACE_COUNT, response.getCount().intValue());
+
+        SearchPlaceInfoDto third = response.getSearchPlaceInfoDtoList().get(2);
+        assertEquals(placeIds.get(2), third.getPlaceId());
+        assertEquals("카페 2", third.getPlaceName());
+        assertEquals("주소 2", third.getAddress());
+        assertEquals("127.102", third.getX());
+        assertEquals(2L, third.getReviewCount());
+        assertEquals(List.of("조용한"), third.getTags());
+    }
+}
@@ -0,0 +1,157 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.TagGenerationJob;
+import com.ktb7.pinpung.entity.TagGenerationJob.Status;
+import com.ktb7.pinpung.exception.common.CustomException;
+import com.ktb7.pinpung.exception.common.ErrorCode;
+import com.ktb7.pinpung.repository.TagGenerationJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TagGenerationDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 10, 12, 0);
+
+    private TagGenerationJobRepository repository;
+    private AiService aiService;
+    private PlaceSummaryService placeSummaryService;
+    private TagLeaderboard tagLeaderboard;
+    private SimpleMeterRegistry meterRegistry;
+    private TagGenerationDispatcher dispatcher;
+    private TagGenerationJob job;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TagGenerationJobRepository.class);
+        aiService = mock(AiService.class);
+        placeSummaryService = mock(PlaceSummaryService.class);
+        tagLeaderboard = mock(TagLeaderboard.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 호출 스레드에서 바로 실행
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        dispatcher = new TagGenerationDispatcher(repository, aiService, placeSummaryService, tagLeaderboard, executor, meterRegistry, clock,
+                2, 3, Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofMinutes(2));
+
+        job = new TagGenerationJob();
+        job.setJobId(1L);
+        job.setPlaceId(10L);
+        job.setUserId(100L);
+        job.setReviewText("리뷰");
+        job.setNextAttemptAt(NOW);
+        job.setCreatedAt(NOW.minusSeconds(5));
+
+        when(repository.findDueJobIds(any(), any())).thenReturn(List.of(1L));
+        when(repository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(repository.findById(1L)).thenReturn(Optional.of(job));
+        when(repository.countByStatusIn(anyCollection())).thenReturn(7L);
+        when(repository.countByStatusIn(List.of(Status.DEAD))).thenReturn(2L);
+        when(repository.updateStatus(eq(1L), any(), any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("성공하면 DONE 처리 후 장소 집계 갱신")
+    void testDone() {
+        job.setAttempts(1);
+        when(aiService.genTags(any(), any(), any(), any())).thenReturn(true);
+
+        dispatcher.dispatch();
+
+        verify(repository).claim(1L, NOW, NOW.plusMinutes(2));
+        verify(repository).updateStatus(eq(1L), eq(Status.DONE), any(), isNull(), eq(NOW));
+        verify(placeSummaryService).refresh(10L);
+        assertEquals(7.0, meterRegistry.get("tag.generation.queue.depth").gauge().value());
+        assertEquals(2.0, meterRegistry.get("tag.generation.dead").gauge().value());
+        assertEquals(1, meterRegistry.get("tag.generation.job.latency").tag("result", "done").timer().count());
+    }
+
+    @Test
+    @DisplayName("실패하면 백오프 후 PENDING 으로 재시도")
+    void testRetryWithBackoff() {
+        job.setAttempts(2);
+        when(aiService.genTags(any(), any(), any(), any()))
+                .thenThrow(new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.GEN_TAGS_REQUEST_FAILED));
+
+        dispatcher.dispatch();
+
+        verify(repository).updateStatus(eq(1L), eq(Status.PENDING), eq(NOW.plusSeconds(20)), any(), any());
+        verify(placeSummaryService, never()).refresh(anyLong());
+    }
+
+    @Test
+    @DisplayName("max-attempts 를 넘으면 DEAD")
+    void testDead() {
+        job.setAttempts(3);
+        when(aiService.genTags(any(), any(), any(), any())).thenThrow(new RuntimeException("timeout"));
+
+        dispatcher.dispatch();
+
+        verify(repository).updateStatus(eq(1L), eq(Status.DEAD), any(), eq("timeout"), any());
+    }
+
+    @Test
+    @DisplayName("DONE 이후 집계 갱신이 실패해도 다시 PENDING 으로 돌리지 않음")
+    void testHookFailureKeepsDone() {
+        job.setAttempts(1);
+        when(aiService.genTags(any(), any(), any(), any())).thenReturn(true);
+        doThrow(new RuntimeException("duplicate key")).when(tagLeaderboard).onPlaceTagsChanged(10L);
+
+        dispatcher.dispatch();
+
+        verify(repository).updateStatus(eq(1L), eq(Status.DONE), any(), isNull(), any());
+        verify(repository, never()).updateStatus(eq(1L), eq(Status.PENDING), any(), any(), any());
+        assertEquals(1.0, meterRegistry.get("tag.generation.job.hook.failure").counter().count());
+    }
+
+    @Test
+    @DisplayName("임대가 만료된 작업은 결과를 반영하지 않음")
+    void testLeaseLost() {
+        job.setAttempts(1);
+        when(aiService.genTags(any(), any(), any(), any())).thenThrow(new RuntimeException("timeout"));
+        when(repository.updateStatus(eq(1L), any(), any(), any(), any())).thenReturn(0);
+
+        dispatcher.dispatch();
+
+        assertEquals(1.0, meterRegistry.get("tag.generation.job.lease.lost").counter().count());
+        assertEquals(0, meterRegistry.find("tag.generation.job.retry").counters().size());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 가져간 작업은 실행하지 않음")
+    void testAlreadyClaimed() {
+        when(repository.claim(eq(1L), any(), any())).thenReturn(0);
+
+        dispatcher.dispatch();
+
+        verify(aiService, never()).genTags(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("백오프는 2배씩 늘고 최대값에서 멈춤")
+    void testBackoff() {
+        assertEquals(Duration.ofSeconds(10), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(3));
+    }
+}
@@ -0,0 +1,83 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.TagGenerationJob;
+import com.ktb7.pinpung.entity.TagGenerationJob.Status;
+import com.ktb7.pinpung.repository.TagGenerationJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TagGenerationJobCleanerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 10, 12, 0);
+
+    @Autowired
+    private TagGenerationJobRepository tagGenerationJobRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TagGenerationJobCleaner cleaner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        cleaner = new TagGenerationJobCleaner(tagGenerationJobRepository, meterRegistry, clock,
+                Duration.ofDays(7), Duration.ofDays(30), 2);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 DONE/DEAD 작업만 배치 단위로 삭제")
+    void testCleanup() {
+        persistJob(Status.DONE, NOW.minusDays(8));
+        persistJob(Status.DONE, NOW.minusDays(9));
+        persistJob(Status.DONE, NOW.minusDays(10));
+        Long recentDone = persistJob(Status.DONE, NOW.minusDays(1));
+        Long recentDead = persistJob(Status.DEAD, NOW.minusDays(8));
+        persistJob(Status.DEAD, NOW.minusDays(31));
+        Long oldPending = persistJob(Status.PENDING, NOW.minusDays(60));
+
+        cleaner.cleanup();
+        entityManager.clear();
+
+        List<Long> remaining = tagGenerationJobRepository.findAll().stream().map(TagGenerationJob::getJobId).sorted().toList();
+        assertEquals(List.of(recentDone, recentDead, oldPending), remaining);
+        assertEquals(3, meterRegistry.get("tag.generation.job.deleted").tag("status", "DONE").counter().count());
+        assertEquals(1, meterRegistry.get("tag.generation.job.deleted").tag("status", "DEAD").counter().count());
+    }
+
+    private Long persistJob(Status status, LocalDateTime updatedAt) {
+        TagGenerationJob job = new TagGenerationJob();
+        job.setPlaceId(1L);
+        job.setUserId(1L);
+        job.setReviewText("리뷰");
+        job.setStatus(status);
+        job.setNextAttemptAt(updatedAt);
+        entityManager.persist(job);
+        entityManager.flush();
+        // updatedAt 은 저장 시각으로 채워지므로 직접 맞춤
+        entityManager.createNativeQuery("UPDATE TagGenerationJob SET updatedAt = ? WHERE id = ?")
+                .setParameter(1, updatedAt)
+                .setParameter(2, job.getJobId())
+                .executeUpdate();
+        return job.getJobId();
+    }
+}
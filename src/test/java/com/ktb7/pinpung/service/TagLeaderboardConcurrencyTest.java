@@ -0,0 +1,99 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.repository.PlaceTagRepository;
+import com.ktb7.pinpung.repository.TagStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 태그 생성 작업이 같은 새 태그를 동시에 갱신하는 경우.
+ * 각 스레드가 자기 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TagLeaderboardConcurrencyTest {
+
+    @Autowired
+    private PlaceTagRepository placeTagRepository;
+    @Autowired
+    private TagStatsRepository tagStatsRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TagLeaderboard tagLeaderboard;
+    private Long tagId;
+
+    @BeforeEach
+    void setUp() {
+        tagLeaderboard = new TagLeaderboard(placeTagRepository, tagStatsRepository, Clock.systemDefaultZone(), 20);
+
+        jdbcTemplate.update("INSERT INTO Tag (tagName) VALUES ('동시성')");
+        tagId = jdbcTemplate.queryForObject("SELECT id FROM Tag WHERE tagName = '동시성'", Long.class);
+        jdbcTemplate.update("INSERT INTO PlaceTag (tagId, placeId, tagCount, isRepresentative) VALUES (?, 1001, 3, FALSE), (?, 1002, 4, FALSE)",
+                tagId, tagId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM TagStats WHERE tagId = ?", tagId);
+        jdbcTemplate.update("DELETE FROM PlaceTag WHERE tagId = ?", tagId);
+        jdbcTemplate.update("DELETE FROM Tag WHERE id = ?", tagId);
+    }
+
+    @Test
+    @DisplayName("같은 새 태그가 붙은 두 장소를 동시에 갱신해도 충돌 없이 최종 합계 저장")
+    void testConcurrentNewTag() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<Void>> futures = List.of(1001L, 1002L).stream()
+                    .map(placeId -> CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+                        await(barrier);
+                        tagLeaderboard.onPlaceTagsChanged(placeId);
+                    }), executor))
+                    .toList();
+            for (CompletableFuture<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(7L, tagStatsRepository.findById(tagId).orElseThrow().getTotalCount());
+        assertTrue(tagLeaderboard.top(TagLeaderboard.Window.ALL, 20).contains("동시성"));
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
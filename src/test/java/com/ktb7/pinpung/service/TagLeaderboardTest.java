@@ -0,0 +1,153 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Place;
+import com.ktb7.pinpung.entity.User;
+import com.ktb7.pinpung.exception.common.CustomException;
+import com.ktb7.pinpung.repository.PlaceTagRepository;
+import com.ktb7.pinpung.repository.TagStatsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TagLeaderboardTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 1, 12, 0);
+
+    @Autowired
+    private PlaceTagRepository placeTagRepository;
+    @Autowired
+    private TagStatsRepository tagStatsRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private TagLeaderboard tagLeaderboard;
+    private Long userId;
+    private Long placeA;
+    private Long placeB;
+    private Long quiet;
+    private Long wide;
+    private Long cozy;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        tagLeaderboard = new TagLeaderboard(placeTagRepository, tagStatsRepository, clock, 20);
+
+        User user = new User();
+        user.setUserName("user");
+        user.setAge(20);
+        entityManager.persist(user);
+        userId = user.getUserId();
+        placeA = persistPlace("a");
+        placeB = persistPlace("b");
+
+        entityManager.createNativeQuery("INSERT INTO Tag (tagName) VALUES ('조용한'), ('넓은'), ('아늑한')").executeUpdate();
+        quiet = ((Number) entityManager.createNativeQuery("SELECT MIN(id) FROM Tag").getSingleResult()).longValue();
+        wide = quiet + 1;
+        cozy = quiet + 2;
+
+        // 전체 기간: 넓은(5+4) > 조용한(6) > 아늑한(1)
+        insertPlaceTag(placeA, quiet, 6);
+        insertPlaceTag(placeA, wide, 5);
+        insertPlaceTag(placeB, wide, 4);
+        insertPlaceTag(placeB, cozy, 1);
+
+        // 최근 24시간은 아늑한, 7일은 조용한이 가장 많음
+        insertUserPlaceTag(cozy, NOW.minusHours(1));
+        insertUserPlaceTag(cozy, NOW.minusHours(2));
+        insertUserPlaceTag(quiet, NOW.minusHours(3));
+        insertUserPlaceTag(quiet, NOW.minusDays(2));
+        insertUserPlaceTag(quiet, NOW.minusDays(3));
+        insertUserPlaceTag(wide, NOW.minusDays(30));
+    }
+
+    @Test
+    @DisplayName("전체/24시간/7일 기간별 상위 태그")
+    void testWindows() {
+        tagLeaderboard.reconcile();
+        tagLeaderboard.refreshWindows();
+
+        assertEquals(List.of("넓은", "조용한", "아늑한"), tagLeaderboard.top(TagLeaderboard.Window.ALL, 5));
+        assertEquals(List.of("넓은", "조용한"), tagLeaderboard.top(TagLeaderboard.Window.ALL, 2));
+        assertEquals(List.of("아늑한", "조용한"), tagLeaderboard.top(TagLeaderboard.Window.DAY, 5));
+        assertEquals(List.of("조용한", "아늑한"), tagLeaderboard.top(TagLeaderboard.Window.WEEK, 5));
+    }
+
+    @Test
+    @DisplayName("장소 태그가 바뀌면 그 장소 태그만 다시 합산해 순위 갱신")
+    void testIncrementalUpdate() {
+        tagLeaderboard.reconcile();
+
+        entityManager.createNativeQuery("UPDATE PlaceTag SET tagCount = 20 WHERE placeId = ? AND tagId = ?")
+                .setParameter(1, placeB)
+                .setParameter(2, cozy)
+                .executeUpdate();
+        tagLeaderboard.onPlaceTagsChanged(placeB);
+
+        assertEquals(List.of("아늑한", "넓은", "조용한"), tagLeaderboard.top(TagLeaderboard.Window.ALL, 5));
+        assertEquals(20L, tagStatsRepository.findById(cozy).orElseThrow().getTotalCount());
+    }
+
+    @Test
+    @DisplayName("PlaceTag 에서 사라진 태그는 전체 재계산 때 순위에서 빠짐")
+    void testReconcileResetsRemovedTags() {
+        tagLeaderboard.reconcile();
+
+        entityManager.createNativeQuery("DELETE FROM PlaceTag WHERE tagId = ?").setParameter(1, cozy).executeUpdate();
+        tagLeaderboard.reconcile();
+
+        assertEquals(List.of("넓은", "조용한"), tagLeaderboard.top(TagLeaderboard.Window.ALL, 5));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 기간은 400")
+    void testUnknownWindow() {
+        assertEquals(TagLeaderboard.Window.DAY, TagLeaderboard.Window.from("24H"));
+        assertThrows(CustomException.class, () -> TagLeaderboard.Window.from("1y"));
+    }
+
+    private Long persistPlace(String name) {
+        Place place = new Place();
+        place.setKakaoPlaceId("kakao-" + name);
+        place.setPlaceName(name);
+        place.setAddress("주소");
+        place.setX("127.1");
+        place.setY("37.4");
+        entityManager.persist(place);
+        return place.getPlaceId();
+    }
+
+    private void insertPlaceTag(Long placeId, Long tagId, long tagCount) {
+        entityManager.createNativeQuery("INSERT INTO PlaceTag (tagId, placeId, tagCount, isRepresentative) VALUES (?, ?, ?, FALSE)")
+                .setParameter(1, tagId)
+                .setParameter(2, placeId)
+                .setParameter(3, tagCount)
+                .executeUpdate();
+    }
+
+    private void insertUserPlaceTag(Long tagId, LocalDateTime createdAt) {
+        entityManager.createNativeQuery("INSERT INTO UserPlaceTag (userId, placeId, tagId, createdAt) VALUES (?, ?, ?, ?)")
+                .setParameter(1, userId)
+                .setParameter(2, placeA)
+                .setParameter(3, tagId)
+                .setParameter(4, createdAt)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,155 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.dto.Place.SimplePlaceDto;
+import com.ktb7.pinpung.repository.PlaceRepository;
+import com.ktb7.pinpung.repository.ReviewRepository;
+import com.ktb7.pinpung.repository.TagRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 장소 10만 곳에 붙은 인기 태그로 화면 내 장소 45곳을 거르는 getPlacesFromTag 측정.
+ * 변경 전 방식(태그의 전체 placeId 조회 + List.contains + 장소별 3쿼리)과 비교한다. ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TagService.class, PlaceCardAssembler.class, PlaceSummaryService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 시드 데이터는 커밋 후 정리
+class TagServiceBenchmarkTest {
+
+    private static final int PLACE_COUNT = 100_000;
+    private static final int VIEWPORT_SIZE = 45;
+    private static final int ROUNDS = 20;
+    private static final String TAG = "인기";
+
+    @Autowired
+    private TagService tagService;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private TagLeaderboard tagLeaderboard;
+
+
+    private final List<Long> viewport = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO Place (kakaoPlaceId, placeName, address, x, y) " +
+                "SELECT 'kakao-' || X, '카페 ' || X, '주소 ' || X, '127.1', '37.4' FROM SYSTEM_RANGE(1, " + PLACE_COUNT + ")");
+        jdbcTemplate.update("INSERT INTO Tag (tagName) VALUES (?)", TAG);
+        jdbcTemplate.update("INSERT INTO PlaceTag (tagId, placeId, tagCount, isRepresentative) " +
+                "SELECT (SELECT id FROM Tag WHERE tagName = ?), id, 1, TRUE FROM Place", TAG);
+        jdbcTemplate.update("INSERT INTO Review (userId, placeId, imageId, text, createdAt, updatedAt) " +
+                "SELECT 1, id, id, '리뷰', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM Place");
+        // 태그 없는 장소 하나 (결과에서 빠져야 함)
+        jdbcTemplate.update("INSERT INTO Place (kakaoPlaceId, placeName, address, x, y) VALUES ('kakao-untagged', '카페', '주소', '127.1', '37.4')");
+        jdbcTemplate.execute("ANALYZE");
+
+        long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM Place", Long.class);
+        for (int i = 0; i < VIEWPORT_SIZE; i++) {
+            viewport.add(minId + (long) i * (PLACE_COUNT / VIEWPORT_SIZE));
+        }
+        viewport.add(1, jdbcTemplate.queryForObject("SELECT id FROM Place WHERE kakaoPlaceId = 'kakao-untagged'", Long.class));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM PlaceSummary");
+        jdbcTemplate.update("DELETE FROM Review");
+        jdbcTemplate.update("DELETE FROM PlaceTag");
+        jdbcTemplate.update("DELETE FROM Tag");
+        jdbcTemplate.update("DELETE FROM Place");
+    }
+
+    @Test
+    void measureGetPlacesFromTag() {
+        // 워밍업
+        assertEquals(VIEWPORT_SIZE, tagService.getPlacesFromTag(TAG, viewport).size());
+        assertEquals(VIEWPORT_SIZE, legacyGetPlacesFromTag().size());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            tagService.getPlacesFromTag(TAG, viewport);
+        }
+        long setMicros = (System.nanoTime() - start) / 1000 / ROUNDS;
+        long setQueries = statistics.getPrepareStatementCount() / ROUNDS;
+
+        statistics.clear();
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            legacyGetPlacesFromTag();
+        }
+        long legacyMicros = (System.nanoTime() - start) / 1000 / ROUNDS;
+        long legacyQueries = statistics.getPrepareStatementCount() / ROUNDS;
+
+        System.out.printf("tagged places=%d, viewport=%d%n", PLACE_COUNT, viewport.size());
+        System.out.printf("set-based: %d queries, %dus/request%n", setQueries, setMicros);
+        System.out.printf("legacy: %d queries, %dus/request%n", legacyQueries, legacyMicros);
+        assertEquals(3, setQueries);
+    }
+
+    // 변경 전 TagService.getPlacesFromTag
+    private List<SimplePlaceDto> legacyGetPlacesFromTag() {
+        return transactionTemplate.execute(status -> {
+            List<Long> foundPlaceIds = entityManager.createQuery(
+                            "SELECT pt.placeId FROM PlaceTag pt JOIN Tag t ON pt.tagId = t.tagId WHERE t.tagName = :tagName", Long.class)
+                    .setParameter("tagName", TAG)
+                    .getResultList();
+            List<Long> matchedPlaceIds = foundPlaceIds.stream()
+                    .filter(viewport::contains)
+                    .toList();
+
+            List<SimplePlaceDto> responseList = new ArrayList<>();
+            for (Long placeId : matchedPlaceIds) {
+                var place = placeRepository.findById(placeId).orElseThrow();
+                List<String> tags = tagRepository.findTagNamesByPlaceId(placeId);
+                Long imageId = reviewRepository.findTopByPlaceIdOrderByCreatedAtDesc(placeId)
+                        .map(review -> review.getImageId())
+                        .orElse(null);
+                responseList.add(new SimplePlaceDto(place.getPlaceId(), place.getPlaceName(), place.getAddress(),
+                        tags, imageId, place.getX(), place.getY()));
+            }
+            entityManager.clear();
+            return responseList;
+        });
+    }
+}
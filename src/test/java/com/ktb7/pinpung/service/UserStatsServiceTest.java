@@ -0,0 +1,147 @@
+package com.ktb7.pinpung.service;
+
+import com.ktb7.pinpung.entity.Follow;
+import com.ktb7.pinpung.entity.Pung;
+import com.ktb7.pinpung.entity.Review;
+import com.ktb7.pinpung.entity.User;
+import com.ktb7.pinpung.entity.UserStats;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserStatsService.class)
+class UserStatsServiceTest {
+
+    @Autowired
+    private UserStatsService userStatsService;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice");
+        bob = persistUser("bob");
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없으면 원본 테이블 COUNT 로 생성")
+    void testCreatedFromCounts() {
+        persistFollow(bob, alice);
+        persistPung(alice.getUserId());
+        persistPung(alice.getUserId());
+        persistReview(alice.getUserId());
+
+        UserStats stats = userStatsService.getStats(alice.getUserId());
+
+        assertEquals(1L, stats.getFollowerCount());
+        assertEquals(0L, stats.getFollowingCount());
+        assertEquals(2L, stats.getPungCount());
+        assertEquals(1L, stats.getReviewCount());
+    }
+
+    @Test
+    @DisplayName("팔로우/언팔로우, 펑/리뷰 작성은 양쪽 카운터를 증감")
+    void testIncrements() {
+        userStatsService.recompute(List.of(alice.getUserId(), bob.getUserId()));
+
+        persistFollow(alice, bob);
+        userStatsService.addFollow(alice.getUserId(), bob.getUserId(), 1);
+        persistPung(alice.getUserId());
+        userStatsService.addPung(alice.getUserId(), 1);
+        userStatsService.addReview(alice.getUserId(), 1);
+        userStatsService.addReview(alice.getUserId(), -1);
+        entityManager.clear();
+
+        UserStats aliceStats = userStatsService.getStats(alice.getUserId());
+        UserStats bobStats = userStatsService.getStats(bob.getUserId());
+        assertEquals(1L, aliceStats.getFollowingCount());
+        assertEquals(1L, aliceStats.getPungCount());
+        assertEquals(0L, aliceStats.getReviewCount());
+        assertEquals(1L, bobStats.getFollowerCount());
+    }
+
+    @Test
+    @DisplayName("행이 없는 사용자의 첫 증감은 방금 쓴 변경까지 포함해 한 번만 반영")
+    void testFirstIncrementCreatesRow() {
+        persistFollow(alice, bob);
+        userStatsService.addFollow(alice.getUserId(), bob.getUserId(), 1);
+        entityManager.clear();
+
+        assertEquals(1L, userStatsService.getStats(bob.getUserId()).getFollowerCount());
+        assertEquals(1L, userStatsService.getStats(alice.getUserId()).getFollowingCount());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 행을 만들었어도 PK 충돌 없이 다시 계산")
+    void testRecomputeExistingRow() {
+        persistPung(alice.getUserId());
+        userStatsService.recompute(List.of(alice.getUserId()));
+        persistPung(alice.getUserId());
+        userStatsService.recompute(List.of(alice.getUserId(), alice.getUserId()));
+        entityManager.clear();
+
+        assertEquals(2L, userStatsService.getStats(alice.getUserId()).getPungCount());
+    }
+
+    @Test
+    @DisplayName("재계산은 어긋난 카운터를 원본 기준으로 바로잡음")
+    void testRecomputeFixesDrift() {
+        persistReview(alice.getUserId());
+        userStatsService.recompute(List.of(alice.getUserId()));
+        userStatsService.addReview(alice.getUserId(), 5);
+        entityManager.clear();
+
+        userStatsService.recompute(List.of(alice.getUserId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1L, entityManager.find(UserStats.class, alice.getUserId()).getReviewCount());
+    }
+
+    private User persistUser(String userName) {
+        User user = new User();
+        user.setUserName(userName);
+        user.setAge(20);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void persistFollow(User follower, User following) {
+        Follow follow = new Follow();
+        follow.setFollower(follower);
+        follow.setFollowing(following);
+        entityManager.persist(follow);
+    }
+
+    private void persistPung(Long userId) {
+        Pung pung = new Pung();
+        pung.setUserId(userId);
+        pung.setPlaceId(1L);
+        pung.setIsReview(false);
+        entityManager.persist(pung);
+    }
+
+    private void persistReview(Long userId) {
+        Review review = new Review();
+        review.setUserId(userId);
+        review.setPlaceId(1L);
+        review.setText("리뷰");
+        entityManager.persist(review);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ktb7.pinpung.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("무작위 추가/삭제 결과가 HashSet 과 같음 (삭제 후 탐색 체인 유지)")
+    void testMatchesHashSet() {
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long value = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (long value = 0; value < 5_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value), "value " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("null 은 포함되지 않음, 복사본 수정은 원본에 영향 없음")
+    void testNullAndCopy() {
+        LongHashSet set = LongHashSet.of(1L, 2L);
+        LongHashSet copy = set.copy();
+        copy.add(3L);
+        copy.remove(1L);
+
+        assertFalse(set.contains((Long) null));
+        assertTrue(set.contains(1L));
+        assertFalse(set.contains(3L));
+        assertEquals(2, copy.size());
+    }
+
+    @Test
+    @DisplayName("팔로워 10만 명 기준 메모리 추정치")
+    void testFootprint() {
+        LongHashSet set = new LongHashSet();
+        for (long id = 1; id <= 100_000; id++) {
+            set.add(id);
+        }
+
+        // long[262144] = 2MB + 헤더 (HashSet<Long> 은 원소당 약 50바이트, 약 5MB)
+        assertEquals(48L + 262_144L * Long.BYTES, set.estimatedBytes());
+        assertTrue(set.estimatedBytes() <= 100_000L * 24);
+    }
+}